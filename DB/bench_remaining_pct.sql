@@ -0,0 +1,50 @@
+-- infusion_sessions 잔량 비율 조회 벤치마크 (MariaDB, Sequence 엔진 사용)
+-- 1,000,000건 이력(ENDED) + 2,000건 진행 중(ACTIVE) 세션을 별도 테이블에 생성 후
+-- 기존 계산식 조회와 remaining_pct 범위 조회를 비교
+--   mariadb -u root -p smartpole < DB/bench_remaining_pct.sql
+
+DROP TABLE IF EXISTS bench_infusion_sessions;
+
+CREATE TABLE bench_infusion_sessions (
+session_id INT NOT NULL AUTO_INCREMENT,
+status ENUM('ACTIVE', 'PAUSED', 'ENDED') NOT NULL,
+remaining_volume INT NOT NULL,
+total_volume_ml INT NOT NULL,
+remaining_pct DOUBLE NULL,
+start_time DATETIME NOT NULL,
+PRIMARY KEY (session_id),
+KEY idx_sessions_status_remaining_pct (status, remaining_pct)
+);
+
+INSERT INTO bench_infusion_sessions (status, remaining_volume, total_volume_ml, start_time)
+SELECT IF(seq <= 2000, 'ACTIVE', 'ENDED'),
+       (seq * 37) % 1001,
+       1000,
+       NOW() - INTERVAL seq MINUTE
+FROM seq_1_to_1002000;
+
+UPDATE bench_infusion_sessions SET remaining_pct = remaining_volume * 100.0 / total_volume_ml;
+
+ANALYZE TABLE bench_infusion_sessions;
+
+-- 기존: 행마다 비율 계산 → 인덱스 사용 불가
+SET profiling = 1;
+SELECT COUNT(*) FROM bench_infusion_sessions
+WHERE status = 'ACTIVE' AND (remaining_volume * 100.0 / total_volume_ml) <= 5;
+SELECT COUNT(*) FROM bench_infusion_sessions
+WHERE status = 'ACTIVE' AND (remaining_volume * 100.0 / total_volume_ml) BETWEEN 10 AND 30;
+
+-- 변경: (status, remaining_pct) 인덱스 범위 조회
+SELECT COUNT(*) FROM bench_infusion_sessions
+WHERE status = 'ACTIVE' AND remaining_pct <= 5;
+SELECT COUNT(*) FROM bench_infusion_sessions
+WHERE status = 'ACTIVE' AND remaining_pct BETWEEN 10 AND 30;
+SHOW PROFILES;
+
+-- 실행 계획 비교 (rows 예상치 확인)
+ANALYZE FORMAT=JSON SELECT * FROM bench_infusion_sessions
+WHERE status = 'ACTIVE' AND (remaining_volume * 100.0 / total_volume_ml) <= 5;
+ANALYZE FORMAT=JSON SELECT * FROM bench_infusion_sessions
+WHERE status = 'ACTIVE' AND remaining_pct <= 5;
+
+DROP TABLE bench_infusion_sessions;
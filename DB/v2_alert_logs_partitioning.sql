@@ -0,0 +1,48 @@
+-- alert_logs 월 단위 파티셔닝 + 아카이브 테이블 (MariaDB)
+-- 애플리케이션을 한 번 기동해 alert_logs가 생성된 뒤 실행
+--   mariadb -u root -p smartpole < DB/v2_alert_logs_partitioning.sql
+--
+-- - 파티션 테이블은 외래키를 지원하지 않으므로 fk_alert_session 제거 (엔티티에도 연관관계 없음)
+-- - 파티션 키(created_at)가 모든 유니크 키에 포함되어야 하므로 PK를 (alert_id, created_at)으로 변경
+-- - 이후 월 파티션은 AlertRetentionScheduledTasks가 매일 미리 생성 (pmax 분할)
+
+ALTER TABLE alert_logs DROP FOREIGN KEY IF EXISTS fk_alert_session;
+
+ALTER TABLE alert_logs
+DROP PRIMARY KEY,
+ADD PRIMARY KEY (alert_id, created_at);
+
+CREATE INDEX IF NOT EXISTS idx_alert_logs_ack_severity_created ON alert_logs (acknowledged, severity, created_at);
+
+ALTER TABLE alert_logs
+PARTITION BY RANGE COLUMNS (created_at) (
+PARTITION p_old VALUES LESS THAN ('2025-01-01'),
+PARTITION p202501 VALUES LESS THAN ('2025-02-01'),
+PARTITION p202502 VALUES LESS THAN ('2025-03-01'),
+PARTITION p202503 VALUES LESS THAN ('2025-04-01'),
+PARTITION p202504 VALUES LESS THAN ('2025-05-01'),
+PARTITION p202505 VALUES LESS THAN ('2025-06-01'),
+PARTITION p202506 VALUES LESS THAN ('2025-07-01'),
+PARTITION p202507 VALUES LESS THAN ('2025-08-01'),
+PARTITION p202508 VALUES LESS THAN ('2025-09-01'),
+PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- 아카이브 테이블(alert_logs_archive)은 AlertRetentionService가 첫 아카이브 작업 때 생성
+-- DDL: Smart_IV_Pole-be/src/main/resources/db/alert_logs_archive.sql (미리 만들려면 같은 방식으로 실행)
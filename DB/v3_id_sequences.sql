@@ -0,0 +1,16 @@
+-- 대량 INSERT 테이블의 ID를 AUTO_INCREMENT → 시퀀스(pooled, 50개 단위)로 전환 (MariaDB 10.3+)
+-- 새 버전 배포 전에 실행 (기존 데이터의 최대 ID 이후부터 발급되도록 시퀀스 생성)
+--   mariadb -u root -p smartpole < DB/v3_id_sequences.sql
+--
+-- - INCREMENT BY 50은 엔티티의 @SequenceGenerator(allocationSize = 50)와 같아야 함
+-- - 기존 AUTO_INCREMENT 속성은 남겨 두어도 됨 (애플리케이션이 ID를 직접 지정해서 INSERT)
+-- - 스크립트 없이 앱이 먼저 기동돼도 IdSequenceInitializer가 첫 INSERT 전에 같은 기준으로 시퀀스를 맞춤
+
+SET @next_alert_id = (SELECT COALESCE(MAX(alert_id), 0) + 100 FROM alert_logs);
+EXECUTE IMMEDIATE CONCAT('CREATE OR REPLACE SEQUENCE alert_logs_seq START WITH ', @next_alert_id, ' INCREMENT BY 50');
+
+SET @next_log_id = (SELECT COALESCE(MAX(log_id), 0) + 100 FROM infusion_logs);
+EXECUTE IMMEDIATE CONCAT('CREATE OR REPLACE SEQUENCE infusion_logs_seq START WITH ', @next_log_id, ' INCREMENT BY 50');
+
+SET @next_session_id = (SELECT COALESCE(MAX(session_id), 0) + 100 FROM infusion_sessions);
+EXECUTE IMMEDIATE CONCAT('CREATE OR REPLACE SEQUENCE infusion_sessions_seq START WITH ', @next_session_id, ' INCREMENT BY 50');
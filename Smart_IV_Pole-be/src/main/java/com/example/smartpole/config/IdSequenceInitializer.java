@@ -0,0 +1,61 @@
+package com.example.smartpole.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시퀀스 ID 테이블(alert_logs, infusion_logs, infusion_sessions)의 시퀀스를 기존 데이터 이후로 맞춤
+ * - DB/v3_id_sequences.sql보다 앱이 먼저 기동되면 ddl-auto가 시퀀스를 1부터 만들어 기존 ID와 겹침
+ *   (alert_logs는 PK가 (alert_id, created_at)이라 중복 ID가 그대로 저장되고, 아카이브 INSERT IGNORE에서 빠짐)
+ * - 모든 빈 생성 직후, MQTT 수신/스케줄러가 시작되기 전에 실행 → 첫 INSERT 전에 보정
+ * - 시퀀스가 없으면 생성, 뒤처져 있으면 SETVAL로 앞당김 (SETVAL은 값을 줄이지 않으므로 노드 동시 기동에도 안전)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 엔티티의 @SequenceGenerator(allocationSize)와 시퀀스의 INCREMENT BY와 같은 값
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTarget> TARGETS = List.of(
+            new SequenceTarget("alert_logs_seq", "alert_logs", "alert_id"),
+            new SequenceTarget("infusion_logs_seq", "infusion_logs", "log_id"),
+            new SequenceTarget("infusion_sessions_seq", "infusion_sessions", "session_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (SequenceTarget target : TARGETS) {
+            alignSequence(target);
+        }
+    }
+
+    private void alignSequence(SequenceTarget target) {
+        long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + target.idColumn() + "), 0) FROM " + target.table(), Long.class);
+        // v3 스크립트와 같은 여유 (최대 ID + 100)
+        long safeValue = maxId + 2L * ALLOCATION_SIZE;
+
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + target.sequence() +
+                " START WITH " + safeValue + " INCREMENT BY " + ALLOCATION_SIZE);
+
+        // pooled 최적화는 시퀀스 값 - allocationSize + 1부터 발급 → 그 아래 범위가 기존 ID와 겹치는지 확인
+        // (캐시된 값까지 반영하려고 NEXTVAL로 실제 다음 값을 읽음, 한 블록은 버려짐)
+        long next = jdbcTemplate.queryForObject("SELECT NEXTVAL(" + target.sequence() + ")", Long.class);
+        if (next - ALLOCATION_SIZE < maxId) {
+            jdbcTemplate.queryForObject("SELECT SETVAL(" + target.sequence() + ", " + safeValue + ")", Long.class);
+            log.warn("Sequence {} was behind {}.{} (next={}, max={}), advanced to {}",
+                    target.sequence(), target.table(), target.idColumn(), next, maxId, safeValue);
+        }
+    }
+
+    private record SequenceTarget(String sequence, String table, String idColumn) {
+    }
+}
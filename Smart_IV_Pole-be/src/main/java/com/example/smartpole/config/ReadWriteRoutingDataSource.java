@@ -0,0 +1,42 @@
+package com.example.smartpole.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 primary로 라우팅
+ * - 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - 트랜잭션 밖 호출(지연 로딩 등)은 쓰기로 기록하지 않음 → 이후 읽기를 primary로 고정하지 않음
+ * - 한 요청에서 트랜잭션마다 커넥션을 새로 얻어야 하므로 spring.jpa.open-in-view=false 필요
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaReadGuard readGuard;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaReadGuard readGuard) {
+        this.readGuard = readGuard;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readGuard.recordWrite();
+            return Route.PRIMARY;
+        }
+        return readGuard.mustReadFromPrimary() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.smartpole.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 클라이언트 키를 ReplicaReadGuard에 바인딩 (X-Client-Id 헤더, 없으면 원격 주소)
+ */
+public class ReplicaClientFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        ReplicaReadGuard.bindClient(clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaReadGuard.clearClient();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.smartpole.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제 지연 대응 - 같은 클라이언트가 쓰기를 한 직후 일정 시간 동안은 읽기도 primary로 보냄
+ * (방금 저장한 데이터가 replica에 아직 반영되지 않아 안 보이는 문제 방지)
+ * - 클라이언트 키는 요청 스레드에 바인딩 (ReplicaClientFilter), 키가 없는 스레드(MQTT, 스케줄러)는 고정하지 않음
+ * - 노드별 메모리 기록이므로 다른 노드로 간 요청에는 적용되지 않음
+ */
+public class ReplicaReadGuard {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final Clock clock;
+
+    public ReplicaReadGuard(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public static void bindClient(String clientKey) {
+        CURRENT_CLIENT.set(clientKey);
+    }
+
+    public static void clearClient() {
+        CURRENT_CLIENT.remove();
+    }
+
+    /**
+     * 현재 클라이언트의 쓰기 기록 (window 동안 읽기를 primary로 고정)
+     */
+    public void recordWrite() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null || window.isZero()) {
+            return;
+        }
+        long now = clock.millis();
+        if (primaryUntil.size() > PURGE_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> until <= now);
+        }
+        primaryUntil.put(client, now + window.toMillis());
+    }
+
+    /**
+     * 현재 클라이언트가 최근에 쓰기를 했으면 true
+     */
+    public boolean mustReadFromPrimary() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return false;
+        }
+        Long until = primaryUntil.get(client);
+        if (until == null) {
+            return false;
+        }
+        if (until <= clock.millis()) {
+            primaryUntil.remove(client, until);
+            return false;
+        }
+        return true;
+    }
+}
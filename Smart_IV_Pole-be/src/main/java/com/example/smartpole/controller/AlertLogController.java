@@ -1,9 +1,13 @@
 package com.example.smartpole.controller;
 
+import com.example.smartpole.dto.AlertAcknowledgeResult;
+import com.example.smartpole.dto.CursorPage;
+import com.example.smartpole.dto.view.AlertSummary;
 import com.example.smartpole.entity.AlertLog;
 import com.example.smartpole.service.AlertLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -16,6 +20,7 @@ import java.util.Optional;
 public class AlertLogController {
 
     private final AlertLogService alertLogService;
+    private final SimpMessagingTemplate messagingTemplate;
 
     @GetMapping
     public ResponseEntity<List<AlertLog>> getAllUnacknowledgedAlerts() {
@@ -23,12 +28,34 @@ public class AlertLogController {
         return ResponseEntity.ok(alerts);
     }
 
+    /**
+     * 전체 알림 이력 - 커서 기반 페이지 (최신순, 응답의 nextCursor를 다음 요청의 cursor로 전달)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<AlertSummary>> getAlertPage(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(alertLogService.getAlertPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/critical")
     public ResponseEntity<List<AlertLog>> getCriticalUnacknowledgedAlerts() {
         List<AlertLog> alerts = alertLogService.getCriticalUnacknowledgedAlerts();
         return ResponseEntity.ok(alerts);
     }
 
+    /**
+     * 병동의 미확인 알림 (최신순)
+     */
+    @GetMapping("/ward/{wardId}")
+    public ResponseEntity<List<AlertLog>> getUnacknowledgedAlertsByWard(@PathVariable String wardId) {
+        List<AlertLog> alerts = alertLogService.getUnacknowledgedAlertsByWard(wardId);
+        return ResponseEntity.ok(alerts);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AlertLog> getAlertById(@PathVariable Integer id) {
         Optional<AlertLog> alert = alertLogService.getAlertById(id);
@@ -37,14 +64,14 @@ public class AlertLogController {
     }
 
     @GetMapping("/session/{sessionId}")
-    public ResponseEntity<List<AlertLog>> getAlertsBySession(@PathVariable Integer sessionId) {
-        List<AlertLog> alerts = alertLogService.getAlertsBySession(sessionId);
+    public ResponseEntity<List<AlertSummary>> getAlertsBySession(@PathVariable Integer sessionId) {
+        List<AlertSummary> alerts = alertLogService.getAlertsBySession(sessionId);
         return ResponseEntity.ok(alerts);
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<List<AlertLog>> getRecentAlerts(@RequestParam(defaultValue = "24") int hours) {
-        List<AlertLog> alerts = alertLogService.getRecentAlerts(hours);
+    public ResponseEntity<List<AlertSummary>> getRecentAlerts(@RequestParam(defaultValue = "24") int hours) {
+        List<AlertSummary> alerts = alertLogService.getRecentAlerts(hours);
         return ResponseEntity.ok(alerts);
     }
 
@@ -69,10 +96,27 @@ public class AlertLogController {
         }
     }
 
+    /**
+     * 미확인 알림 일괄 확인 (병동/세션/심각도로 범위 지정 가능)
+     * 확인된 알림 ID 목록은 /topic/alerts/acknowledged로 브로드캐스트
+     */
     @PostMapping("/acknowledge-all")
-    public ResponseEntity<Void> acknowledgeAllAlerts(@RequestParam String nurseId) {
-        alertLogService.acknowledgeAllAlerts(nurseId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<AlertAcknowledgeResult> acknowledgeAllAlerts(
+            @RequestParam String nurseId,
+            @RequestParam(required = false) String wardId,
+            @RequestParam(required = false) Integer sessionId,
+            @RequestParam(required = false) String severity) {
+        AlertAcknowledgeResult result;
+        try {
+            result = alertLogService.acknowledgeAlerts(nurseId, wardId, sessionId, severity);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (result.getCount() > 0) {
+            messagingTemplate.convertAndSend("/topic/alerts/acknowledged", result);
+        }
+        return ResponseEntity.ok(result);
     }
 
     @PostMapping("/system")
@@ -1,6 +1,10 @@
 package com.example.smartpole.controller;
 
+import com.example.smartpole.dto.dashboard.DashboardSummaryDTO;
+import com.example.smartpole.dto.dashboard.WardOverviewDTO;
 import com.example.smartpole.service.DashboardService;
+import com.example.smartpole.service.DashboardSummaryService;
+import com.example.smartpole.service.WardOverviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +18,8 @@ import java.util.Map;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardSummaryService dashboardSummaryService;
+    private final WardOverviewService wardOverviewService;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> getDashboardData() {
@@ -21,9 +27,25 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardData);
     }
 
+    /**
+     * 집계 값만 담은 경량 대시보드 (SQL 2회)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryDTO> getDashboardSummary() {
+        return ResponseEntity.ok(dashboardSummaryService.getDashboardSummary());
+    }
+
     @GetMapping("/ward-overview")
     public ResponseEntity<Map<String, Object>> getWardOverview() {
         Map<String, Object> wardData = dashboardService.getWardOverview();
         return ResponseEntity.ok(wardData);
     }
+
+    /**
+     * 병동 단위 현황 (병실 병상 수 기준, 병동별 캐시)
+     */
+    @GetMapping("/ward-overview/{wardId}")
+    public ResponseEntity<WardOverviewDTO> getWardOverviewByWard(@PathVariable String wardId) {
+        return ResponseEntity.ok(wardOverviewService.getWardOverview(wardId));
+    }
 }
\ No newline at end of file
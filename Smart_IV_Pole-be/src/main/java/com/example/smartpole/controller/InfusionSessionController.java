@@ -1,9 +1,12 @@
 package com.example.smartpole.controller;
 
+import com.example.smartpole.dto.CursorPage;
+import com.example.smartpole.dto.view.InfusionSessionSummary;
 import com.example.smartpole.entity.InfusionSession;
 import com.example.smartpole.service.InfusionSessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,12 +21,30 @@ public class InfusionSessionController {
 
     private final InfusionSessionService infusionSessionService;
 
+    /**
+     * 전체 세션 목록 (페이지 없이 전체 행 조회)
+     * @deprecated 행 수에 비례해 응답이 커지므로 /page (커서 기반, 기본 {@link CursorPage#DEFAULT_SIZE}건)를 사용
+     */
+    @Deprecated
     @GetMapping
-    public ResponseEntity<List<InfusionSession>> getAllSessions() {
-        List<InfusionSession> sessions = infusionSessionService.getAllSessions();
+    public ResponseEntity<List<InfusionSessionSummary>> getAllSessions() {
+        List<InfusionSessionSummary> sessions = infusionSessionService.getAllSessions();
         return ResponseEntity.ok(sessions);
     }
 
+    /**
+     * 세션 이력 - 커서 기반 페이지 (최신순, 응답의 nextCursor를 다음 요청의 cursor로 전달)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<InfusionSessionSummary>> getSessionPage(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(infusionSessionService.getSessionPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<InfusionSession> createInfusionSession(@RequestBody InfusionSession session) {
         try {
@@ -35,8 +56,8 @@ public class InfusionSessionController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<List<InfusionSession>> getActiveSessions() {
-        List<InfusionSession> sessions = infusionSessionService.getAllActiveSessions();
+    public ResponseEntity<List<InfusionSessionSummary>> getActiveSessions() {
+        List<InfusionSessionSummary> sessions = infusionSessionService.getAllActiveSessions();
         return ResponseEntity.ok(sessions);
     }
 
@@ -48,8 +69,8 @@ public class InfusionSessionController {
     }
 
     @GetMapping("/patient/{patientId}")
-    public ResponseEntity<List<InfusionSession>> getSessionsByPatient(@PathVariable Integer patientId) {
-        List<InfusionSession> sessions = infusionSessionService.getSessionsByPatient(patientId);
+    public ResponseEntity<List<InfusionSessionSummary>> getSessionsByPatient(@PathVariable Integer patientId) {
+        List<InfusionSessionSummary> sessions = infusionSessionService.getSessionsByPatient(patientId);
         return ResponseEntity.ok(sessions);
     }
 
@@ -94,8 +115,10 @@ public class InfusionSessionController {
             @PathVariable Integer sessionId,
             @RequestParam Integer remainingVolume) {
         try {
-            InfusionSession session = infusionSessionService.updateRemainingVolume(sessionId, remainingVolume);
-            return ResponseEntity.ok(session);
+            // 세션이 ACTIVE가 아니면 반영하지 않음 (409)
+            return infusionSessionService.updateRemainingVolume(sessionId, remainingVolume)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -106,6 +129,9 @@ public class InfusionSessionController {
         try {
             InfusionSession session = infusionSessionService.pauseInfusion(sessionId);
             return ResponseEntity.ok(session);
+        } catch (IllegalStateException | ObjectOptimisticLockingFailureException e) {
+            // 현재 상태에서 불가능한 조작이거나 다른 간호사의 변경이 먼저 반영됨
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -116,6 +142,8 @@ public class InfusionSessionController {
         try {
             InfusionSession session = infusionSessionService.resumeInfusion(sessionId);
             return ResponseEntity.ok(session);
+        } catch (IllegalStateException | ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -126,6 +154,8 @@ public class InfusionSessionController {
         try {
             InfusionSession session = infusionSessionService.endInfusion(sessionId);
             return ResponseEntity.ok(session);
+        } catch (IllegalStateException | ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
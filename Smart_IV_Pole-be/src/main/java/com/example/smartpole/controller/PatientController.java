@@ -1,6 +1,8 @@
 package com.example.smartpole.controller;
 
+import com.example.smartpole.dto.CursorPage;
 import com.example.smartpole.dto.ApiResponse;
+import com.example.smartpole.dto.view.PatientSummary;
 import com.example.smartpole.entity.Patient;
 import com.example.smartpole.service.PatientService;
 import lombok.RequiredArgsConstructor;
@@ -25,10 +27,15 @@ public class PatientController {
         return ResponseEntity.ok(ApiResponse.success("Server is running", "Health check successful"));
     }
 
+    /**
+     * 전체 환자 목록 (페이지 없이 전체 행 조회)
+     * @deprecated 행 수에 비례해 응답이 커지므로 /page (커서 기반, 기본 {@link CursorPage#DEFAULT_SIZE}건)를 사용
+     */
+    @Deprecated
     @GetMapping("/patients")
-    public ResponseEntity<ApiResponse<List<Patient>>> getAllPatients() {
+    public ResponseEntity<ApiResponse<List<PatientSummary>>> getAllPatients() {
         try {
-            List<Patient> patients = patientService.getAllPatients();
+            List<PatientSummary> patients = patientService.getAllPatients();
             return ResponseEntity.ok(ApiResponse.success(patients));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -36,6 +43,22 @@ public class PatientController {
         }
     }
 
+    /**
+     * 환자 목록 - 커서 기반 페이지 (최신 등록순, 응답의 nextCursor를 다음 요청의 cursor로 전달)
+     */
+    @GetMapping("/patients/page")
+    public ResponseEntity<ApiResponse<CursorPage<PatientSummary>>> getPatientPage(@RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(patientService.getPatientPage(cursor, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to fetch patients: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/patients/{id}")
     public ResponseEntity<ApiResponse<Patient>> getPatientById(@PathVariable Integer id) {
         try {
@@ -53,9 +76,9 @@ public class PatientController {
     }
 
     @GetMapping("/patients/search")
-    public ResponseEntity<ApiResponse<List<Patient>>> searchPatients(@RequestParam(required = false) String keyword) {
+    public ResponseEntity<ApiResponse<List<PatientSummary>>> searchPatients(@RequestParam(required = false) String keyword) {
         try {
-            List<Patient> patients = patientService.searchPatients(keyword);
+            List<PatientSummary> patients = patientService.searchPatients(keyword);
             return ResponseEntity.ok(ApiResponse.success(patients));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
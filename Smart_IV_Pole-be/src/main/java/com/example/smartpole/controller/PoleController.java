@@ -5,7 +5,7 @@ import com.example.smartpole.entity.Patient;
 import com.example.smartpole.entity.Pole;
 import com.example.smartpole.entity.Prescription;
 import com.example.smartpole.service.InfusionSessionService;
-import com.example.smartpole.service.PatientService;
+import com.example.smartpole.service.PoleHeartbeatStore;
 import com.example.smartpole.service.PoleService;
 import com.example.smartpole.service.PrescriptionService;
 import lombok.RequiredArgsConstructor;
@@ -29,8 +29,8 @@ public class PoleController {
 
     private final PoleService poleService;
     private final InfusionSessionService infusionSessionService;
-    private final PatientService patientService;
     private final PrescriptionService prescriptionService;
+    private final PoleHeartbeatStore heartbeatStore;
 
     @GetMapping
     public ResponseEntity<List<Map<String, Object>>> getAllPoles() {
@@ -90,6 +90,11 @@ public class PoleController {
         return ResponseEntity.ok(count);
     }
 
+    @GetMapping("/statistics")
+    public ResponseEntity<Map<String, Object>> getFleetStatistics() {
+        return ResponseEntity.ok(poleService.getFleetStatistics());
+    }
+
     @PostMapping
     public ResponseEntity<Pole> createPole(@RequestBody Pole pole) {
         try {
@@ -427,20 +432,23 @@ public class PoleController {
         Map<String, Object> response = new HashMap<>();
         response.put("poleId", pole.getPoleId());
         response.put("status", pole.getStatus());
-        response.put("batteryLevel", pole.getBatteryLevel());
         response.put("lastMaintenance", pole.getLastMaintenance());
         response.put("createdAt", pole.getCreatedAt());
         response.put("updatedAt", pole.getUpdatedAt());
         response.put("patientId", pole.getPatientId());
         response.put("assignedAt", pole.getAssignedAt());
-        response.put("lastPingAt", pole.getLastPingAt());
         response.put("isOnline", pole.getIsOnline());
 
-        // Include patient information if assigned
+        // 핑 시각/배터리는 write-behind 저장소의 값이 DB보다 최신
+        LocalDateTime lastPingAt = heartbeatStore.getLastPingAt(pole.getPoleId());
+        Integer batteryLevel = heartbeatStore.getBatteryLevel(pole.getPoleId());
+        response.put("lastPingAt", lastPingAt != null ? lastPingAt : pole.getLastPingAt());
+        response.put("batteryLevel", batteryLevel != null ? batteryLevel : pole.getBatteryLevel());
+
+        // Include patient information if assigned (patient is fetched with the pole listing)
         if (pole.getPatientId() != null) {
-            Optional<Patient> patientOpt = patientService.getPatientById(pole.getPatientId());
-            if (patientOpt.isPresent()) {
-                Patient patient = patientOpt.get();
+            Patient patient = pole.getPatient();
+            if (patient != null) {
                 Map<String, Object> patientInfo = new HashMap<>();
                 patientInfo.put("patientId", patient.getPatientId());
                 patientInfo.put("name", patient.getName());
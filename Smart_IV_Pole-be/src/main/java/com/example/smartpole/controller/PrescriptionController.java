@@ -1,6 +1,8 @@
 package com.example.smartpole.controller;
 
+import com.example.smartpole.dto.CursorPage;
 import com.example.smartpole.dto.ApiResponse;
+import com.example.smartpole.dto.view.PrescriptionSummary;
 import com.example.smartpole.entity.Prescription;
 import com.example.smartpole.service.PrescriptionService;
 import lombok.RequiredArgsConstructor;
@@ -20,12 +22,30 @@ public class PrescriptionController {
 
     private final PrescriptionService prescriptionService;
 
+    /**
+     * 전체 처방 목록 (페이지 없이 전체 행 조회)
+     * @deprecated 행 수에 비례해 응답이 커지므로 /page (커서 기반, 기본 {@link CursorPage#DEFAULT_SIZE}건)를 사용
+     */
+    @Deprecated
     @GetMapping
-    public ResponseEntity<List<Prescription>> getAllPrescriptions() {
-        List<Prescription> prescriptions = prescriptionService.getAllPrescriptions();
+    public ResponseEntity<List<PrescriptionSummary>> getAllPrescriptions() {
+        List<PrescriptionSummary> prescriptions = prescriptionService.getAllPrescriptions();
         return ResponseEntity.ok(prescriptions);
     }
 
+    /**
+     * 처방 목록 - 커서 기반 페이지 (최신순, 응답의 nextCursor를 다음 요청의 cursor로 전달)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<PrescriptionSummary>> getPrescriptionPage(@RequestParam(required = false) String cursor,
+                                                                               @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(prescriptionService.getPrescriptionPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Prescription> getPrescriptionById(@PathVariable Integer id) {
         Optional<Prescription> prescription = prescriptionService.getPrescriptionById(id);
@@ -34,14 +54,14 @@ public class PrescriptionController {
     }
 
     @GetMapping("/patient/{patientId}")
-    public ResponseEntity<List<Prescription>> getPrescriptionsByPatient(@PathVariable Integer patientId) {
-        List<Prescription> prescriptions = prescriptionService.getPrescriptionsByPatient(patientId);
+    public ResponseEntity<List<PrescriptionSummary>> getPrescriptionsByPatient(@PathVariable Integer patientId) {
+        List<PrescriptionSummary> prescriptions = prescriptionService.getPrescriptionsByPatient(patientId);
         return ResponseEntity.ok(prescriptions);
     }
 
     @GetMapping("/patient/{patientId}/active")
-    public ResponseEntity<List<Prescription>> getActivePrescriptionsByPatient(@PathVariable Integer patientId) {
-        List<Prescription> prescriptions = prescriptionService.getActivePrescriptionsByPatient(patientId);
+    public ResponseEntity<List<PrescriptionSummary>> getActivePrescriptionsByPatient(@PathVariable Integer patientId) {
+        List<PrescriptionSummary> prescriptions = prescriptionService.getActivePrescriptionSummariesByPatient(patientId);
         return ResponseEntity.ok(prescriptions);
     }
 
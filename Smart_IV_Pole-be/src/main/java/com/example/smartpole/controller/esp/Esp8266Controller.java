@@ -5,6 +5,8 @@ import com.example.smartpole.entity.InfusionSession;
 import com.example.smartpole.entity.Pole;
 import com.example.smartpole.service.AlertLogService;
 import com.example.smartpole.service.InfusionSessionService;
+import com.example.smartpole.service.PoleHeartbeatStore;
+import com.example.smartpole.service.PoleLivenessTracker;
 import com.example.smartpole.service.PoleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -23,6 +25,8 @@ public class Esp8266Controller {
     private final InfusionSessionService infusionSessionService;
     private final AlertLogService alertLogService;
     private final PoleService poleService;
+    private final PoleLivenessTracker livenessTracker;
+    private final PoleHeartbeatStore heartbeatStore;
     private final SimpMessagingTemplate messagingTemplate;
 
     /**
@@ -62,6 +66,13 @@ public class Esp8266Controller {
             System.out.println("Remaining Time: " + (remainingTimeSec != null ? remainingTimeSec / 60.0 : 0) + " min");
             System.out.println("State: " + state);
 
+            // 텔레메트리도 생존 신호로 간주 → 오프라인 데드라인 재설정
+            if (deviceId != null) {
+                // /ping과 같이 핑으로 기록 (write-behind) → 다른 노드의 리더도 DB 동기화로 휠을 연장
+                poleService.recordPing(deviceId, parseInteger(data.get("battery_level")));
+                livenessTracker.arm(deviceId);
+            }
+
             // 2. InfusionSession 찾기 (device_id = pole_id)
             Optional<InfusionSession> sessionOpt = infusionSessionService.getActiveSessionByPole(deviceId);
 
@@ -75,16 +86,18 @@ public class Esp8266Controller {
             // 3. InfusionSession 업데이트
             // 남은 무게(g)를 남은 용량(mL)으로 저장 (1g ≈ 1mL)
             int remainingVolume = weightRemaining != null ? weightRemaining.intValue() : session.getRemainingVolume();
-            session.setRemainingVolume(remainingVolume);
 
-            // 예측 종료 시간 계산 및 저장
+            // 예측 종료 시간 계산
+            LocalDateTime endExpTime = null;
             if (remainingTimeSec != null && remainingTimeSec > 0) {
-                LocalDateTime endExpTime = LocalDateTime.now().plusSeconds(remainingTimeSec.longValue());
-                session.setEndExpTime(endExpTime);
+                endExpTime = LocalDateTime.now().plusSeconds(remainingTimeSec.longValue());
             }
 
-            // DB 저장
-            infusionSessionService.updateRemainingVolume(session.getSessionId(), remainingVolume);
+            // DB 저장 (잔량/예측 종료 시간만 갱신, 그 사이 간호사가 일시정지/종료했으면 반영하지 않음)
+            if (infusionSessionService.updateRemainingVolume(session, remainingVolume, endExpTime).isEmpty()) {
+                System.out.println("⚠️ Session " + session.getSessionId() + " is no longer active, data ignored");
+                return createResponse("success", "Data received but session is no longer active", data);
+            }
 
             // 4. 유속 편차가 크면 자동 경고 생성
             if (deviationPercent != null && Math.abs(deviationPercent) > 15.0) {
@@ -336,27 +349,13 @@ public class Esp8266Controller {
 
             System.out.println("[ESP PING] Device: " + deviceId + " | Battery: " + batteryLevel + "%");
 
-            // 1. Pole 찾기 또는 자동 생성
-            Pole pole = poleService.getPoleById(deviceId)
-                    .orElseGet(() -> {
-                        // 폴대가 없으면 자동 생성 (Auto-registration)
-                        System.out.println("[INFO] New pole auto-registered: " + deviceId);
-                        Pole newPole = new Pole();
-                        newPole.setPoleId(deviceId);
-                        newPole.setStatus(Pole.PoleStatus.active);
-                        newPole.setBatteryLevel(batteryLevel != null ? batteryLevel : 100);
-                        newPole.setIsOnline(true);
-                        newPole.setCreatedAt(LocalDateTime.now());
-                        newPole.setUpdatedAt(LocalDateTime.now());
-                        return poleService.savePole(newPole);
-                    });
-
-            // 2. 핑 업데이트
-            pole.updatePing();
-            if (batteryLevel != null) {
-                pole.setBatteryLevel(batteryLevel);
-            }
-            poleService.savePole(pole);
+            // 1. 핑 기록 (write-behind: 필요한 경우에만 DB 반영, 없는 폴대는 자동 생성)
+            poleService.recordPing(deviceId, batteryLevel);
+            livenessTracker.arm(deviceId);
+
+            // 2. 메모리에 기록된 최신 상태
+            LocalDateTime lastPingAt = heartbeatStore.getLastPingAt(deviceId);
+            Integer currentBatteryLevel = heartbeatStore.getBatteryLevel(deviceId);
 
             // 3. WebSocket 브로드캐스트 (폴대 상태 변경)
             Map<String, Object> wsMessage = new HashMap<>();
@@ -364,8 +363,8 @@ public class Esp8266Controller {
             wsMessage.put("device_id", deviceId);
             wsMessage.put("pole_id", deviceId);
             wsMessage.put("is_online", true);
-            wsMessage.put("battery_level", pole.getBatteryLevel());
-            wsMessage.put("last_ping_at", pole.getLastPingAt().toString());
+            wsMessage.put("battery_level", currentBatteryLevel);
+            wsMessage.put("last_ping_at", lastPingAt != null ? lastPingAt.toString() : null);
             wsMessage.put("timestamp", LocalDateTime.now().toString());
 
             messagingTemplate.convertAndSend("/topic/poles/status", wsMessage);
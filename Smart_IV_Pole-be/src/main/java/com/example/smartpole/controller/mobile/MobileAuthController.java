@@ -1,10 +1,14 @@
 package com.example.smartpole.controller.mobile;
 
 import com.example.smartpole.dto.ApiResponse;
+import com.example.smartpole.dto.mobile.PatientLoginView;
 import com.example.smartpole.entity.Patient;
-import com.example.smartpole.repository.PatientRepository;
+import com.example.smartpole.service.LoginRateLimiter;
+import com.example.smartpole.service.PatientLoginService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -17,38 +21,55 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class MobileAuthController {
 
-    private final PatientRepository patientRepository;
+    private final PatientLoginService patientLoginService;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * 환자 모바일 앱 로그인 (전화번호 + PIN)
      */
     @PostMapping("/patient-login")
-    public ApiResponse<Map<String, Object>> patientLogin(@RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> patientLogin(@RequestBody LoginRequest request) {
         log.info("Patient login attempt: phone={}", request.getPhone());
 
-        Patient patient = patientRepository.findByPhone(request.getPhone())
-                .orElse(null);
+        // 번호별 시도 제한 (DB 조회 전에 확인)
+        String phoneKey = Patient.normalizePhone(request.getPhone());
+        if (phoneKey != null && !loginRateLimiter.tryAcquire(phoneKey)) {
+            log.warn("Too many login attempts: phone={}", request.getPhone());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(ApiResponse.error("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요"));
+        }
+
+        // 같은 번호의 환자가 여럿이면 PIN으로 구분 (구분되지 않으면 409)
+        PatientLoginView patient;
+        try {
+            patient = patientLoginService.findByPhone(request.getPhone(), request.getPinCode())
+                    .orElse(null);
+        } catch (IllegalStateException e) {
+            log.warn("Ambiguous patient login: phone={}, {}", request.getPhone(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("같은 전화번호로 등록된 환자가 여러 명입니다. PIN을 확인하거나 간호사에게 문의해주세요"));
+        }
 
         if (patient == null) {
             log.warn("Patient not found: phone={}", request.getPhone());
-            return ApiResponse.error("등록되지 않은 전화번호입니다");
+            return ResponseEntity.ok(ApiResponse.error("등록되지 않은 전화번호입니다"));
         }
 
         // PIN 검증 (테스트 중에는 모든 PIN 허용, 실제 배포 시 주석 해제)
-        // if (!request.getPinCode().equals(patient.getPinCode())) {
+        // if (!request.getPinCode().equals(patient.pinCode())) {
         //     log.warn("Invalid PIN: phone={}", request.getPhone());
-        //     return ApiResponse.error("PIN이 일치하지 않습니다");
+        //     return ResponseEntity.ok(ApiResponse.error("PIN이 일치하지 않습니다"));
         // }
 
         Map<String, Object> result = new HashMap<>();
-        result.put("id", String.valueOf(patient.getPatientId()));
-        result.put("name", patient.getName());
-        result.put("phone", patient.getPhone());
-        result.put("roomId", patient.getRoomId());
-        result.put("bedNumber", patient.getBedNumber());
-
-        log.info("Patient login successful: patientId={}, name={}", patient.getPatientId(), patient.getName());
-        return ApiResponse.success(result);
+        result.put("id", String.valueOf(patient.patientId()));
+        result.put("name", patient.name());
+        result.put("phone", patient.phone());
+        result.put("roomId", patient.roomId());
+        result.put("bedNumber", patient.bedNumber());
+
+        log.info("Patient login successful: patientId={}, name={}", patient.patientId(), patient.name());
+        return ResponseEntity.ok(ApiResponse.success(result));
     }
 
     @lombok.Data
@@ -0,0 +1,22 @@
+package com.example.smartpole.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 일괄 확인 결과 (WebSocket 알림에도 그대로 사용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertAcknowledgeResult {
+
+    private int count;
+    private List<Integer> alertIds;
+    private String acknowledgedBy;
+    private LocalDateTime acknowledgedAt;
+}
@@ -0,0 +1,96 @@
+package com.example.smartpole.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * - 정렬 키 (시각 DESC, ID DESC)의 마지막 값을 커서로 전달 → 다음 페이지는 인덱스 범위 조회로 바로 이어짐
+ * - OFFSET을 쓰지 않으므로 테이블 크기와 무관하게 페이지 비용 일정
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+
+    /**
+     * 커서 해석 → 첫 페이지 또는 커서 이후 조회 (size + 1건) → 페이지 구성
+     * @param firstPage 첫 페이지 조회 (repository findPageFirst)
+     * @param pageAfter 커서 이후 조회 (repository findPageAfter)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static <T> CursorPage<T> fetch(String cursor, Integer size,
+                                          Function<Limit, List<T>> firstPage, PageAfterQuery<T> pageAfter,
+                                          Function<T, LocalDateTime> timeKey, Function<T, Integer> idKey) {
+        int pageSize = normalizeSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<T> fetched;
+        if (cursor == null || cursor.isBlank()) {
+            fetched = firstPage.apply(limit);
+        } else {
+            Cursor after = decode(cursor);
+            fetched = pageAfter.find(after.time(), after.id(), limit);
+        }
+        return of(fetched, pageSize, timeKey, idKey);
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 페이지 구성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size,
+                                       Function<T, LocalDateTime> timeKey, Function<T, Integer> idKey) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null, false);
+        }
+        List<T> items = fetched.subList(0, size);
+        T last = items.get(size - 1);
+        return new CursorPage<>(items, encode(timeKey.apply(last), idKey.apply(last)), true);
+    }
+
+    public static int normalizeSize(Integer size) {
+        if (size == null || size < 1) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+
+    public static String encode(LocalDateTime time, Integer id) {
+        String raw = time + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Integer.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public record Cursor(LocalDateTime time, Integer id) {
+    }
+
+    @FunctionalInterface
+    public interface PageAfterQuery<T> {
+        List<T> find(LocalDateTime time, Integer id, Limit limit);
+    }
+}
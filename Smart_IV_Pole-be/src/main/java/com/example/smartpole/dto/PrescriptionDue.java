@@ -0,0 +1,13 @@
+package com.example.smartpole.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중 처방의 완료 예정 시각 (지연 감지 큐용)
+ */
+public interface PrescriptionDue {
+
+    Integer getPrescriptionId();
+
+    LocalDateTime getDueAt();
+}
@@ -0,0 +1,13 @@
+package com.example.smartpole.dto.dashboard;
+
+import com.example.smartpole.entity.AlertLog;
+
+/**
+ * 대시보드 집계 프로젝션 - 미확인 알림 심각도별 건수
+ */
+public interface AlertSeverityCount {
+
+    AlertLog.Severity getSeverity();
+
+    Long getAlertCount();
+}
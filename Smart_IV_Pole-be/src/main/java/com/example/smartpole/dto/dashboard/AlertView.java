@@ -0,0 +1,44 @@
+package com.example.smartpole.dto.dashboard;
+
+import com.example.smartpole.entity.AlertLog;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 메모리 모델용 알림 스냅샷 (불변)
+ */
+@Value
+public class AlertView {
+
+    Integer alertId;
+    Integer sessionId;
+    AlertLog.AlertType alertType;
+    AlertLog.Severity severity;
+    String message;
+    Boolean acknowledged;
+    String acknowledgedBy;
+    LocalDateTime acknowledgedAt;
+    LocalDateTime createdAt;
+
+    public static AlertView from(AlertLog alert) {
+        return new AlertView(
+                alert.getAlertId(),
+                alert.getSessionId(),
+                alert.getAlertType(),
+                alert.getSeverity(),
+                alert.getMessage(),
+                alert.getAcknowledged(),
+                alert.getAcknowledgedBy(),
+                alert.getAcknowledgedAt(),
+                alert.getCreatedAt()
+        );
+    }
+
+    /**
+     * 미확인 알림 API 응답용 (기존 AlertLog JSON 형태 유지, 저장되지 않는 객체)
+     */
+    public AlertLog toAlertLog() {
+        return new AlertLog(alertId, sessionId, alertType, severity, message, acknowledged, acknowledgedBy, acknowledgedAt, createdAt);
+    }
+}
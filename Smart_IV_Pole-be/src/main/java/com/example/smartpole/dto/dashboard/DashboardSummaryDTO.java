@@ -0,0 +1,36 @@
+package com.example.smartpole.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 간호사 스테이션 대시보드 요약 DTO
+ * 엔티티 목록 없이 집계 값만 전달 (SQL 2회로 계산)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryDTO {
+
+    // 세션 현황
+    private long activeSessionCount;
+    private long criticalCount;
+    private long warningCount;
+    private long normalCount;
+
+    // 폴대 현황
+    private long activePolesCount;
+
+    // 미확인 알림 (info / warning / critical)
+    private Map<String, Long> alertCounts;
+    private long totalAlertsCount;
+    private long criticalAlertsCount;
+
+    // normal / warning / critical
+    private String systemStatus;
+}
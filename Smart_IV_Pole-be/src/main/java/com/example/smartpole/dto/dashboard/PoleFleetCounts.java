@@ -0,0 +1,17 @@
+package com.example.smartpole.dto.dashboard;
+
+/**
+ * 폴대 현황 집계 프로젝션 - 통계 카운터 점검용 (한 번의 쿼리)
+ */
+public interface PoleFleetCounts {
+
+    Long getTotal();
+
+    Long getOnline();
+
+    Long getAssigned();
+
+    Long getMaintenance();
+
+    Long getActive();
+}
@@ -0,0 +1,14 @@
+package com.example.smartpole.dto.dashboard;
+
+/**
+ * 메모리 모델 변경 확인용 집계 프로젝션 - 행 수 + ID 합 + 값 합 (한 번의 쿼리)
+ * 메모리에서 같은 방식으로 계산한 값과 다르면 다른 노드에서 변경이 있었던 것
+ */
+public interface RowSignature {
+
+    Long getRowCount();
+
+    Long getIdSum();
+
+    Long getValueSum();
+}
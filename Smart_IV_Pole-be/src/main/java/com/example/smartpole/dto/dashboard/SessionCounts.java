@@ -0,0 +1,15 @@
+package com.example.smartpole.dto.dashboard;
+
+/**
+ * 대시보드 집계 프로젝션 - 진행 중 세션 수 + 활성 폴대 수 (한 번의 쿼리)
+ */
+public interface SessionCounts {
+
+    Long getActiveCount();
+
+    Long getCriticalCount();   // 잔량 5% 이하
+
+    Long getWarningCount();    // 잔량 10~30%
+
+    Long getActivePoleCount();
+}
@@ -0,0 +1,68 @@
+package com.example.smartpole.dto.dashboard;
+
+import com.example.smartpole.entity.InfusionSession;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 메모리 모델용 세션 스냅샷 (불변)
+ */
+@Value
+public class SessionView {
+
+    Integer sessionId;
+    Integer patientId;
+    Integer dripId;
+    Integer prescriptionId;
+    String ivPoleId;
+    LocalDateTime startTime;
+    LocalDateTime endTime;
+    LocalDateTime endExpTime;
+    Integer remainingVolume;
+    Integer totalVolumeMl;
+    Double remainingPct;
+    BigDecimal flowRate;
+    InfusionSession.SessionStatus status;
+
+    public static SessionView from(InfusionSession session) {
+        return new SessionView(
+                session.getSessionId(),
+                session.getPatientId(),
+                session.getDripId(),
+                session.getPrescriptionId(),
+                session.getIvPoleId(),
+                session.getStartTime(),
+                session.getEndTime(),
+                session.getEndExpTime(),
+                session.getRemainingVolume(),
+                session.getTotalVolumeMl(),
+                session.getRemainingPct(),
+                session.getFlowRate(),
+                session.getStatus()
+        );
+    }
+
+    // InfusionSession.getCompletionPercentage/isLowVolume/isCriticalVolume과 같은 계산 (기존 JSON 키 유지)
+    public double getCompletionPercentage() {
+        if (totalVolumeMl == null || totalVolumeMl == 0 || remainingVolume == null) return 0;
+        return ((double) (totalVolumeMl - remainingVolume) / totalVolumeMl) * 100;
+    }
+
+    public boolean isLowVolume() {
+        return getCompletionPercentage() > 90;
+    }
+
+    public boolean isCriticalVolume() {
+        return getCompletionPercentage() > 95;
+    }
+
+    public boolean isCritical() {
+        return remainingPct != null && remainingPct <= 5;
+    }
+
+    public boolean isWarning() {
+        return remainingPct != null && remainingPct >= 10 && remainingPct <= 30;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.smartpole.dto.dashboard;
+
+/**
+ * 세션이 속한 병동 (세션 → 환자 → 병실)
+ */
+public interface SessionWard {
+
+    Integer getSessionId();
+
+    String getWardId();
+}
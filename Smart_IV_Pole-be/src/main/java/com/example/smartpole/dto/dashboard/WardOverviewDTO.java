@@ -0,0 +1,54 @@
+package com.example.smartpole.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병동 단위 현황 DTO (병실 병상 수 기준)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WardOverviewDTO {
+
+    private String wardId;
+    private int capacity;             // 병상 수 합계 (rooms.room_person)
+    private int occupiedBeds;         // 입원 환자 수
+    private int activeSessionCount;   // 진행 중 투여 세션 수
+
+    // normal / warning / critical / inactive(투여 중이 아닌 병상)
+    private Map<String, Integer> sessionsByStatus;
+
+    private List<RoomOverview> rooms;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomOverview {
+        private String roomId;
+        private String roomNumber;
+        private int capacity;
+        private List<BedOverview> beds;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BedOverview {
+        private Integer patientId;
+        private String patientName;
+        private String bedNumber;
+        private Integer sessionId;
+        private String poleId;
+        private Double remainingPct;
+        private String status;        // normal / warning / critical / inactive
+    }
+}
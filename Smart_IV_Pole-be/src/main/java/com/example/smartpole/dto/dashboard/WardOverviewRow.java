@@ -0,0 +1,25 @@
+package com.example.smartpole.dto.dashboard;
+
+/**
+ * 병동 현황 조회 프로젝션 - 병실 × 환자 × 진행 중 세션 (LEFT JOIN, 빈 병실/세션 없는 환자도 포함)
+ */
+public interface WardOverviewRow {
+
+    String getRoomId();
+
+    String getRoomNumber();
+
+    Integer getCapacity();
+
+    Integer getPatientId();
+
+    String getPatientName();
+
+    String getBedNumber();
+
+    Integer getSessionId();
+
+    String getPoleId();
+
+    Double getRemainingPct();
+}
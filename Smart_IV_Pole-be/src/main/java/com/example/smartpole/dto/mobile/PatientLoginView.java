@@ -0,0 +1,14 @@
+package com.example.smartpole.dto.mobile;
+
+/**
+ * 모바일 로그인용 환자 정보 (로그인 응답 컬럼 + PIN만 조회, 로그인 캐시에 보관)
+ */
+public record PatientLoginView(
+        Integer patientId,
+        String name,
+        String phone,
+        String roomId,
+        String bedNumber,
+        String pinCode
+) {
+}
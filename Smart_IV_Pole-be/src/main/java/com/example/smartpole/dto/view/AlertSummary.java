@@ -0,0 +1,21 @@
+package com.example.smartpole.dto.view;
+
+import com.example.smartpole.entity.AlertLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 이력 목록 조회용 읽기 모델
+ */
+public record AlertSummary(
+        Integer alertId,
+        Integer sessionId,
+        AlertLog.AlertType alertType,
+        AlertLog.Severity severity,
+        String message,
+        Boolean acknowledged,
+        String acknowledgedBy,
+        LocalDateTime acknowledgedAt,
+        LocalDateTime createdAt
+) {
+}
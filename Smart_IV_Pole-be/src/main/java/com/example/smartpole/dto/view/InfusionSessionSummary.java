@@ -0,0 +1,41 @@
+package com.example.smartpole.dto.view;
+
+import com.example.smartpole.entity.InfusionSession;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 투약 세션 목록 조회용 읽기 모델 (연관 엔티티 프록시 없이 컬럼 값만)
+ * - 엔티티 응답과 같은 JSON 키를 유지하도록 completionPercentage/lowVolume/criticalVolume도 계산해 노출
+ */
+public record InfusionSessionSummary(
+        Integer sessionId,
+        Integer patientId,
+        Integer dripId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        LocalDateTime endExpTime,
+        Integer remainingVolume,
+        BigDecimal flowRate,
+        String ivPoleId,
+        Integer prescriptionId,
+        InfusionSession.SessionStatus status,
+        Integer totalVolumeMl,
+        Double remainingPct
+) {
+
+    // InfusionSession의 같은 이름 메서드와 같은 계산
+    public double getCompletionPercentage() {
+        if (totalVolumeMl == null || totalVolumeMl == 0 || remainingVolume == null) return 0;
+        return ((double) (totalVolumeMl - remainingVolume) / totalVolumeMl) * 100;
+    }
+
+    public boolean isLowVolume() {
+        return getCompletionPercentage() > 90; // Less than 10% remaining
+    }
+
+    public boolean isCriticalVolume() {
+        return getCompletionPercentage() > 95; // Less than 5% remaining
+    }
+}
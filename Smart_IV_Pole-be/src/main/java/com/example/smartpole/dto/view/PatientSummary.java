@@ -0,0 +1,25 @@
+package com.example.smartpole.dto.view;
+
+import com.example.smartpole.entity.Patient;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 환자 목록 조회용 읽기 모델 (JPQL 생성자 표현식으로 필요한 컬럼만 조회)
+ * 주소, PIN 코드는 목록에서 쓰지 않으므로 제외 → 단건 조회(/patients/{id})에서만 제공
+ */
+public record PatientSummary(
+        Integer patientId,
+        String name,
+        String phone,
+        LocalDate birthDate,
+        Patient.Gender gender,
+        Integer weightKg,
+        Integer heightCm,
+        String roomId,
+        String bedNumber,
+        LocalDateTime createdAt,
+        String assignedPoleId
+) {
+}
@@ -0,0 +1,37 @@
+package com.example.smartpole.dto.view;
+
+import com.example.smartpole.entity.Prescription;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처방 목록 조회용 읽기 모델 (연관 엔티티 프록시 없이 컬럼 값만)
+ * - 엔티티 응답과 같은 JSON 키를 유지하도록 active/completed도 노출
+ */
+public record PrescriptionSummary(
+        Integer id,
+        Integer patientId,
+        Integer drugTypeId,
+        Integer totalVolumeMl,
+        Integer infusionRateMlHr,
+        Integer gttFactor,
+        Integer calculatedGtt,
+        Double durationHours,
+        String specialInstructions,
+        Prescription.PrescriptionStatus status,
+        LocalDateTime prescribedAt,
+        String prescribedBy,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt
+) {
+
+    // Prescription의 같은 이름 메서드와 같은 기준
+    public boolean isActive() {
+        return status == Prescription.PrescriptionStatus.ACTIVE;
+    }
+
+    public boolean isCompleted() {
+        return status == Prescription.PrescriptionStatus.COMPLETED
+                || status == Prescription.PrescriptionStatus.CANCELLED;
+    }
+}
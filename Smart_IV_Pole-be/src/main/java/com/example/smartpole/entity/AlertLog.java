@@ -1,5 +1,6 @@
 package com.example.smartpole.entity;
 
+import com.example.smartpole.event.DomainEventEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,7 +10,11 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "alert_logs")
+@EntityListeners(DomainEventEntityListener.class)
+@Table(name = "alert_logs", indexes = {
+        @Index(name = "idx_alert_logs_created_id", columnList = "created_at, alert_id"),
+        @Index(name = "idx_alert_logs_ack_severity_created", columnList = "acknowledged, severity, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +22,8 @@ import java.time.LocalDateTime;
 public class AlertLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alert_logs_seq")
+    @SequenceGenerator(name = "alert_logs_seq", sequenceName = "alert_logs_seq", allocationSize = 50)
     @Column(name = "alert_id")
     private Integer alertId;
 
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class InfusionLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "infusion_logs_seq")
+    @SequenceGenerator(name = "infusion_logs_seq", sequenceName = "infusion_logs_seq", allocationSize = 50)
     @Column(name = "log_id")
     private Integer logId;
 
@@ -1,16 +1,25 @@
 package com.example.smartpole.entity;
 
+import com.example.smartpole.event.DomainEventEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "infusion_sessions")
+@EntityListeners(DomainEventEntityListener.class)
+@Table(name = "infusion_sessions", indexes = {
+        @Index(name = "idx_sessions_status_remaining_pct", columnList = "status, remaining_pct"),
+        @Index(name = "idx_sessions_patient_status", columnList = "patient_id, status"),
+        @Index(name = "idx_sessions_start_id", columnList = "start_time, session_id")
+})
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +27,8 @@ import java.time.LocalDateTime;
 public class InfusionSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "infusion_sessions_seq")
+    @SequenceGenerator(name = "infusion_sessions_seq", sequenceName = "infusion_sessions_seq", allocationSize = 50)
     @Column(name = "session_id")
     private Integer sessionId;
 
@@ -56,6 +66,22 @@ public class InfusionSession {
     @Column(name = "total_volume_ml", nullable = false)
     private Integer totalVolumeMl;
 
+    // 잔량 비율(%) = remaining_volume * 100 / total_volume_ml, 저장 시 자동 계산 (인덱스 범위 조회용)
+    @Column(name = "remaining_pct")
+    private Double remainingPct;
+
+    // 잔량 구간 (0: 정상, 1: 부족 10% 미만, 2: 위험 5% 미만) - 구간이 나빠지는 샘플에서만 알림 생성
+    @ColumnDefault("0")
+    @Column(name = "volume_band", nullable = false)
+    private Integer volumeBand = VOLUME_BAND_NORMAL;
+
+    // 낙관적 잠금 - 간호사 조작(일시정지/재개/종료)끼리의 동시 수정 감지
+    // ESP 잔량 갱신은 버전을 올리지 않는 부분 UPDATE (InfusionSessionRepository.updateIngestedVolume/escalateIngestedVolume)
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Relationships
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", insertable = false, updatable = false)
@@ -73,6 +99,33 @@ public class InfusionSession {
     @JoinColumn(name = "prescription_id", insertable = false, updatable = false)
     private Prescription prescription;
 
+    public static final int VOLUME_BAND_NORMAL = 0;
+    public static final int VOLUME_BAND_LOW = 1;
+    public static final int VOLUME_BAND_CRITICAL = 2;
+
+    @PrePersist
+    @PreUpdate
+    public void updateVolumeDerivedFields() {
+        if (remainingVolume == null || totalVolumeMl == null || totalVolumeMl == 0) {
+            remainingPct = null;
+        } else {
+            remainingPct = remainingVolume * 100.0 / totalVolumeMl;
+        }
+        volumeBand = volumeBandOf(remainingVolume, totalVolumeMl);
+    }
+
+    // isLowVolume()/isCriticalVolume()과 같은 기준
+    public static int volumeBandOf(Integer remainingVolume, Integer totalVolumeMl) {
+        if (remainingVolume == null || totalVolumeMl == null || totalVolumeMl == 0) {
+            return VOLUME_BAND_NORMAL;
+        }
+        double remainingPct = remainingVolume * 100.0 / totalVolumeMl;
+        if (remainingPct < 5) {
+            return VOLUME_BAND_CRITICAL;
+        }
+        return remainingPct < 10 ? VOLUME_BAND_LOW : VOLUME_BAND_NORMAL;
+    }
+
     public enum SessionStatus {
         ACTIVE, PAUSED, ENDED
     }
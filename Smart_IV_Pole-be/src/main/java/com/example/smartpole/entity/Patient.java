@@ -1,5 +1,6 @@
 package com.example.smartpole.entity;
 
+import com.example.smartpole.event.DomainEventEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,7 +11,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "patients")
+@EntityListeners(DomainEventEntityListener.class)
+@Table(name = "patients", indexes = {
+        @Index(name = "idx_patients_room", columnList = "room_id"),
+        @Index(name = "idx_patients_created_id", columnList = "created_at, patient_id"),
+        @Index(name = "idx_patients_phone_normalized", columnList = "phone_normalized")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,6 +34,10 @@ public class Patient {
     @Column(name = "phone", length = 20)
     private String phone;
 
+    // 숫자만 남긴 전화번호 (모바일 로그인 조회용, 보호자 번호 등으로 중복 가능) - 저장 시 phone에서 자동 계산
+    @Column(name = "phone_normalized", length = 20)
+    private String phoneNormalized;
+
     @Column(name = "birth_date", nullable = false)
     private LocalDate birthDate;
 
@@ -70,6 +80,29 @@ public class Patient {
         male, female
     }
 
+    @PrePersist
+    @PreUpdate
+    public void updatePhoneNormalized() {
+        phoneNormalized = normalizePhone(phone);
+    }
+
+    /**
+     * 전화번호에서 숫자만 남김 (010-1234-5678, 010 1234 5678 → 01012345678), 숫자가 없으면 null
+     */
+    public static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.isEmpty() ? null : digits.toString();
+    }
+
     // Utility methods for pole assignment
     public boolean hasPoleAssigned() {
         return assignedPoleId != null;
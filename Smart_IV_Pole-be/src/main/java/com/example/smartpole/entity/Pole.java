@@ -1,5 +1,6 @@
 package com.example.smartpole.entity;
 
+import com.example.smartpole.event.DomainEventEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,7 +11,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "poles")
+@EntityListeners(DomainEventEntityListener.class)
+@Table(name = "poles", indexes = {
+        @Index(name = "idx_poles_online_ping", columnList = "is_online, last_ping_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
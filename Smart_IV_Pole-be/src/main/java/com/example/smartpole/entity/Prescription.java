@@ -1,14 +1,22 @@
 package com.example.smartpole.entity;
 
+import com.example.smartpole.event.DomainEventEntityListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "prescriptions")
+@EntityListeners(DomainEventEntityListener.class)
+@Table(name = "prescriptions", indexes = {
+        @Index(name = "idx_prescriptions_prescribed_id", columnList = "prescribed_at, id"),
+        @Index(name = "idx_prescriptions_status_due", columnList = "status, due_at"),
+        @Index(name = "idx_prescriptions_patient_status_prescribed", columnList = "patient_id, status, prescribed_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -58,6 +66,13 @@ public class Prescription {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    // 투여 완료 예정 시각 = 시작 + durationHours (일시정지한 시간만큼 뒤로 밀림), 초 단위로 저장
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Column(name = "paused_at")
+    private LocalDateTime pausedAt;
+
     // Relationships
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id", insertable = false, updatable = false)
@@ -102,6 +117,7 @@ public class Prescription {
         if (canBeStarted()) {
             this.status = PrescriptionStatus.ACTIVE;
             this.startedAt = LocalDateTime.now();
+            this.dueAt = startedAt.plusSeconds(Math.round(durationHours * 3600)).truncatedTo(ChronoUnit.SECONDS);
         } else {
             throw new IllegalStateException("Cannot start prescription with status: " + status);
         }
@@ -119,6 +135,7 @@ public class Prescription {
     public void pauseInfusion() {
         if (isActive()) {
             this.status = PrescriptionStatus.PAUSED;
+            this.pausedAt = LocalDateTime.now();
         } else {
             throw new IllegalStateException("Cannot pause prescription with status: " + status);
         }
@@ -127,6 +144,12 @@ public class Prescription {
     public void resumeInfusion() {
         if (status == PrescriptionStatus.PAUSED) {
             this.status = PrescriptionStatus.ACTIVE;
+            // paused_at 컬럼 추가 이전에 일시정지된 처방은 시작 시각을 모르므로 due_at 유지
+            if (dueAt != null && pausedAt != null) {
+                long pausedSeconds = Duration.between(pausedAt, LocalDateTime.now()).getSeconds();
+                this.dueAt = dueAt.plusSeconds(pausedSeconds);
+            }
+            this.pausedAt = null;
         } else {
             throw new IllegalStateException("Cannot resume prescription with status: " + status);
         }
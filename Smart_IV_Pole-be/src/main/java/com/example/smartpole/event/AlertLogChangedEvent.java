@@ -0,0 +1,16 @@
+package com.example.smartpole.event;
+
+import com.example.smartpole.dto.dashboard.AlertView;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 저장/삭제 이벤트 (생성, 확인 처리 등)
+ */
+@Getter
+@RequiredArgsConstructor
+public class AlertLogChangedEvent {
+
+    private final AlertView alert;
+    private final boolean removed;
+}
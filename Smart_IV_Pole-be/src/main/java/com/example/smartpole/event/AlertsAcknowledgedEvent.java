@@ -0,0 +1,17 @@
+package com.example.smartpole.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 알림 일괄 확인 이벤트
+ * 벌크 UPDATE는 엔티티 콜백을 거치지 않으므로 AlertLogChangedEvent 대신 확인된 ID 목록을 직접 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class AlertsAcknowledgedEvent {
+
+    private final List<Integer> alertIds;
+}
@@ -0,0 +1,17 @@
+package com.example.smartpole.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 알림 일괄 삭제 이벤트 (환자 삭제 시 세션 알림 벌크 DELETE)
+ * 엔티티 콜백이 호출되지 않으므로 미확인 알림 색인에서 뺄 ID 목록을 직접 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class AlertsDeletedEvent {
+
+    private final List<Integer> alertIds;
+}
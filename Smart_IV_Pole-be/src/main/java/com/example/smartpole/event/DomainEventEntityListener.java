@@ -0,0 +1,59 @@
+package com.example.smartpole.event;
+
+import com.example.smartpole.dto.dashboard.AlertView;
+import com.example.smartpole.dto.dashboard.SessionView;
+import com.example.smartpole.entity.AlertLog;
+import com.example.smartpole.entity.InfusionSession;
+import com.example.smartpole.entity.Patient;
+import com.example.smartpole.entity.Pole;
+import com.example.smartpole.entity.Prescription;
+import com.example.smartpole.entity.Room;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티 저장/삭제 시점에 도메인 이벤트 발행
+ * - 저장 경로(서비스, 컨트롤러, MQTT 등)와 무관하게 한 곳에서 발행
+ * - 구독 측은 @TransactionalEventListener로 커밋 이후에만 반영
+ * - JPQL 벌크 UPDATE/DELETE는 콜백이 호출되지 않으므로 해당 코드에서 직접 발행해야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        publish(entity, false);
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        publish(entity, true);
+    }
+
+    private void publish(Object entity, boolean removed) {
+        if (entity instanceof InfusionSession session) {
+            eventPublisher.publishEvent(new InfusionSessionChangedEvent(SessionView.from(session), removed));
+        } else if (entity instanceof AlertLog alert) {
+            eventPublisher.publishEvent(new AlertLogChangedEvent(AlertView.from(alert), removed));
+        } else if (entity instanceof Patient patient) {
+            eventPublisher.publishEvent(new PatientChangedEvent(patient.getPatientId(), patient.getRoomId(),
+                    patient.getPhoneNormalized(), removed));
+        } else if (entity instanceof Room room) {
+            eventPublisher.publishEvent(new RoomChangedEvent(room.getRoomId(), room.getWardId(), removed));
+        } else if (entity instanceof Pole pole) {
+            eventPublisher.publishEvent(new PoleChangedEvent(pole.getPoleId(), pole.getIsOnline(), pole.getPatientId(),
+                    pole.getBatteryLevel(), pole.getStatus(), removed));
+        } else if (entity instanceof Prescription prescription) {
+            eventPublisher.publishEvent(new PrescriptionChangedEvent(
+                    prescription.getId(), prescription.getStatus(), prescription.getDueAt(), removed));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.smartpole.event;
+
+import com.example.smartpole.dto.dashboard.SessionView;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수액 세션 저장/삭제 이벤트 (시작, 잔량 갱신, 일시정지, 종료 등)
+ */
+@Getter
+@RequiredArgsConstructor
+public class InfusionSessionChangedEvent {
+
+    private final SessionView session;
+    private final boolean removed;
+}
@@ -0,0 +1,17 @@
+package com.example.smartpole.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 환자 저장/삭제 이벤트 (입원, 병실 이동, 퇴원 등)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PatientChangedEvent {
+
+    private final Integer patientId;
+    private final String roomId;
+    private final String phoneNormalized;
+    private final boolean removed;
+}
@@ -0,0 +1,21 @@
+package com.example.smartpole.event;
+
+import com.example.smartpole.entity.Pole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 폴대 저장/삭제 이벤트 (등록, 상태/배터리 변경, 환자 할당/해제 등)
+ * 통계에 필요한 값만 복사해 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class PoleChangedEvent {
+
+    private final String poleId;
+    private final Boolean online;
+    private final Integer patientId;
+    private final Integer batteryLevel;
+    private final Pole.PoleStatus status;
+    private final boolean removed;
+}
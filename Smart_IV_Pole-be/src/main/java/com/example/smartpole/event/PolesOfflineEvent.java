@@ -0,0 +1,17 @@
+package com.example.smartpole.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 폴대 일괄 오프라인 처리 이벤트 (온라인 감시의 벌크 UPDATE)
+ * 엔티티 콜백이 호출되지 않으므로 오프라인 처리된 ID 목록을 직접 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class PolesOfflineEvent {
+
+    private final List<String> poleIds;
+}
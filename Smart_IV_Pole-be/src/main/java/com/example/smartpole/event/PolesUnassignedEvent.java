@@ -0,0 +1,17 @@
+package com.example.smartpole.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 폴대 일괄 할당 해제 이벤트 (환자 삭제 시 벌크 UPDATE)
+ * 엔티티 콜백이 호출되지 않으므로 할당 해제된 ID 목록을 직접 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class PolesUnassignedEvent {
+
+    private final List<String> poleIds;
+}
@@ -0,0 +1,20 @@
+package com.example.smartpole.event;
+
+import com.example.smartpole.entity.Prescription;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처방 저장/삭제 이벤트 (시작, 일시정지, 재개, 완료 등 - 완료 예정 시각 큐 갱신용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PrescriptionChangedEvent {
+
+    private final Integer prescriptionId;
+    private final Prescription.PrescriptionStatus status;
+    private final LocalDateTime dueAt;
+    private final boolean removed;
+}
@@ -0,0 +1,16 @@
+package com.example.smartpole.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 병실 저장/삭제 이벤트 (병상 수 변경 등)
+ */
+@Getter
+@RequiredArgsConstructor
+public class RoomChangedEvent {
+
+    private final String roomId;
+    private final String wardId;
+    private final boolean removed;
+}
@@ -1,7 +1,14 @@
 package com.example.smartpole.repository;
 
+import com.example.smartpole.dto.dashboard.AlertSeverityCount;
+import com.example.smartpole.dto.dashboard.RowSignature;
+import com.example.smartpole.dto.view.AlertSummary;
 import com.example.smartpole.entity.AlertLog;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,6 +22,11 @@ public interface AlertLogRepository extends JpaRepository<AlertLog, Integer> {
     // Find unacknowledged alerts
     List<AlertLog> findByAcknowledgedFalseOrderByCreatedAtDesc();
 
+    // Signature of the unacknowledged set (count + id sum) - cheap change check before reloading the index
+    @Query("SELECT COUNT(a) AS rowCount, COALESCE(SUM(a.alertId), 0) AS idSum, 0 AS valueSum " +
+           "FROM AlertLog a WHERE a.acknowledged = false")
+    RowSignature findUnacknowledgedSignature();
+
     // Find alerts by session
     List<AlertLog> findBySessionIdOrderByCreatedAtDesc(Integer sessionId);
 
@@ -32,7 +44,64 @@ public interface AlertLogRepository extends JpaRepository<AlertLog, Integer> {
     @Query("SELECT COUNT(a) FROM AlertLog a WHERE a.acknowledged = false AND a.severity = :severity")
     Long countUnacknowledgedBySeverity(@Param("severity") AlertLog.Severity severity);
 
+    // Keyset pagination (alert history, newest first) - first page
+    @Query(SUMMARY_SELECT + "ORDER BY a.createdAt DESC, a.alertId DESC")
+    List<AlertSummary> findPageFirst(Limit limit);
+
+    // Keyset pagination - rows after the cursor (createdAt, alertId)
+    @Query(SUMMARY_SELECT + "WHERE a.createdAt < :time OR (a.createdAt = :time AND a.alertId < :id) " +
+           "ORDER BY a.createdAt DESC, a.alertId DESC")
+    List<AlertSummary> findPageAfter(@Param("time") LocalDateTime time, @Param("id") Integer id, Limit limit);
+
+    // Dashboard summary - unacknowledged alert counts grouped by severity
+    @Query("SELECT a.severity AS severity, COUNT(a) AS alertCount FROM AlertLog a " +
+           "WHERE a.acknowledged = false GROUP BY a.severity")
+    List<AlertSeverityCount> countUnacknowledgedGroupBySeverity();
+
     // Dashboard - unacknowledged critical alerts
     @Query("SELECT a FROM AlertLog a WHERE a.acknowledged = false AND a.severity = 'critical' ORDER BY a.createdAt DESC")
     List<AlertLog> findUnacknowledgedCriticalAlerts();
-}
\ No newline at end of file
+
+    // Bulk acknowledge - lock unacknowledged alert ids matching the optional scope (null = no filter)
+    // Ward scope goes through a subquery so only alert_logs rows are locked
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.alertId FROM AlertLog a WHERE a.acknowledged = false " +
+           "AND (:sessionId IS NULL OR a.sessionId = :sessionId) " +
+           "AND (:severity IS NULL OR a.severity = :severity) " +
+           "AND (:wardId IS NULL OR a.sessionId IN (" +
+           "SELECT s.sessionId FROM InfusionSession s, Patient p, Room r " +
+           "WHERE p.patientId = s.patientId AND r.roomId = p.roomId AND r.wardId = :wardId))")
+    List<Integer> findUnacknowledgedIdsForUpdate(@Param("wardId") String wardId,
+                                                 @Param("sessionId") Integer sessionId,
+                                                 @Param("severity") AlertLog.Severity severity);
+
+    // Bulk acknowledge - set-based update without loading entities
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AlertLog a SET a.acknowledged = true, a.acknowledgedBy = :nurseId, a.acknowledgedAt = :acknowledgedAt " +
+           "WHERE a.alertId IN :alertIds AND a.acknowledged = false")
+    int acknowledgeByIds(@Param("alertIds") List<Integer> alertIds,
+                         @Param("nurseId") String nurseId,
+                         @Param("acknowledgedAt") LocalDateTime acknowledgedAt);
+
+    // Unacknowledged alerts of a patient's sessions (dropped from the in-memory index on patient deletion)
+    @Query("SELECT a.alertId FROM AlertLog a WHERE a.acknowledged = false AND a.sessionId IN (" +
+           "SELECT s.sessionId FROM InfusionSession s WHERE s.patientId = :patientId)")
+    List<Integer> findUnacknowledgedIdsByPatientId(@Param("patientId") Integer patientId);
+
+    // Bulk delete of all alerts of a patient's sessions (patient deletion, no entity loading)
+    @Modifying
+    @Query("DELETE FROM AlertLog a WHERE a.sessionId IN (" +
+           "SELECT s.sessionId FROM InfusionSession s WHERE s.patientId = :patientId)")
+    int deleteByPatientId(@Param("patientId") Integer patientId);
+
+    // Read-only list projection (column values only, no entity hydration)
+    String SUMMARY_SELECT = "SELECT new com.example.smartpole.dto.view.AlertSummary(" +
+            "a.alertId, a.sessionId, a.alertType, a.severity, a.message, a.acknowledged, a.acknowledgedBy, " +
+            "a.acknowledgedAt, a.createdAt) FROM AlertLog a ";
+
+    @Query(SUMMARY_SELECT + "WHERE a.sessionId = :sessionId ORDER BY a.createdAt DESC")
+    List<AlertSummary> findSummariesBySessionId(@Param("sessionId") Integer sessionId);
+
+    @Query(SUMMARY_SELECT + "WHERE a.createdAt >= :since ORDER BY a.createdAt DESC")
+    List<AlertSummary> findRecentSummaries(@Param("since") LocalDateTime since);
+}
@@ -1,9 +1,12 @@
 package com.example.smartpole.repository;
 
 import com.example.smartpole.entity.DrugType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,6 +18,13 @@ import java.util.Optional;
 @Repository
 public interface DrugTypeRepository extends JpaRepository<DrugType, Integer> {
 
+    /**
+     * 전체 약품 목록 (2차 캐시의 조회 결과 캐시 사용)
+     */
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<DrugType> findAll();
+
     /**
      * 약품명으로 조회
      * @param dripName 약품명
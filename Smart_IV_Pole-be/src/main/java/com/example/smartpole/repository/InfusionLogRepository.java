@@ -0,0 +1,17 @@
+package com.example.smartpole.repository;
+
+import com.example.smartpole.entity.InfusionLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InfusionLogRepository extends JpaRepository<InfusionLog, Integer> {
+
+    // Bulk delete of a patient's infusion logs (patient deletion, no entity loading)
+    @Modifying
+    @Query("DELETE FROM InfusionLog l WHERE l.patientId = :patientId")
+    int deleteByPatientId(@Param("patientId") Integer patientId);
+}
@@ -1,11 +1,19 @@
 package com.example.smartpole.repository;
 
+import com.example.smartpole.dto.dashboard.RowSignature;
+import com.example.smartpole.dto.dashboard.SessionCounts;
+import com.example.smartpole.dto.dashboard.SessionWard;
+import com.example.smartpole.dto.view.InfusionSessionSummary;
 import com.example.smartpole.entity.InfusionSession;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,22 +35,103 @@ public interface InfusionSessionRepository extends JpaRepository<InfusionSession
     // Find active session by patient (should be only one)
     Optional<InfusionSession> findByPatientIdAndStatus(Integer patientId, InfusionSession.SessionStatus status);
 
+    // All sessions of a patient in a status (no single-result assumption, e.g. cleanup on patient deletion)
+    List<InfusionSession> findAllByPatientIdAndStatus(Integer patientId, InfusionSession.SessionStatus status);
+
     // Dashboard queries - active sessions with low volume
-    @Query("SELECT s FROM InfusionSession s WHERE s.status = 'ACTIVE' AND (s.remainingVolume * 100.0 / s.totalVolumeMl) <= :percentage")
+    @Query("SELECT s FROM InfusionSession s WHERE s.status = 'ACTIVE' AND s.remainingPct <= :percentage")
     List<InfusionSession> findActiveLowVolumeSessions(@Param("percentage") double percentage);
 
     // Get all active sessions for dashboard
     @Query("SELECT s FROM InfusionSession s WHERE s.status = 'ACTIVE' ORDER BY s.startTime ASC")
     List<InfusionSession> findAllActiveSessions();
 
+    // Signature of the active sessions (count + id sum + remaining volume sum) - cheap change check before reloading
+    @Query("SELECT COUNT(s) AS rowCount, COALESCE(SUM(s.sessionId), 0) AS idSum, " +
+           "COALESCE(SUM(s.remainingVolume), 0) AS valueSum FROM InfusionSession s WHERE s.status = 'ACTIVE'")
+    RowSignature findActiveSessionSignature();
+
     // Critical sessions (less than 5% remaining)
-    @Query("SELECT s FROM InfusionSession s WHERE s.status = 'ACTIVE' AND (s.remainingVolume * 100.0 / s.totalVolumeMl) <= 5")
+    @Query("SELECT s FROM InfusionSession s WHERE s.status = 'ACTIVE' AND s.remainingPct <= 5")
     List<InfusionSession> findCriticalSessions();
 
     // Warning sessions (10-30% remaining)
-    @Query("SELECT s FROM InfusionSession s WHERE s.status = 'ACTIVE' AND (s.remainingVolume * 100.0 / s.totalVolumeMl) BETWEEN 10 AND 30")
+    @Query("SELECT s FROM InfusionSession s WHERE s.status = 'ACTIVE' AND s.remainingPct BETWEEN 10 AND 30")
     List<InfusionSession> findWarningSessions();
 
-    // Delete sessions by patient ID (for cascade deletion)
-    void deleteByPatientId(Integer patientId);
-}
\ No newline at end of file
+    // Keyset pagination (session history, newest first) - first page
+    @Query(SUMMARY_SELECT + "ORDER BY s.startTime DESC, s.sessionId DESC")
+    List<InfusionSessionSummary> findPageFirst(Limit limit);
+
+    // Keyset pagination - rows after the cursor (startTime, sessionId)
+    @Query(SUMMARY_SELECT + "WHERE s.startTime < :time OR (s.startTime = :time AND s.sessionId < :id) " +
+           "ORDER BY s.startTime DESC, s.sessionId DESC")
+    List<InfusionSessionSummary> findPageAfter(@Param("time") LocalDateTime time, @Param("id") Integer id, Limit limit);
+
+    // Dashboard summary - session counts by remaining percentage plus active pole count in one statement
+    @Query("SELECT COUNT(s) AS activeCount, " +
+           "COALESCE(SUM(CASE WHEN s.remainingPct <= 5 THEN 1 ELSE 0 END), 0) AS criticalCount, " +
+           "COALESCE(SUM(CASE WHEN s.remainingPct BETWEEN 10 AND 30 THEN 1 ELSE 0 END), 0) AS warningCount, " +
+           "(SELECT COUNT(p) FROM Pole p WHERE p.status = 'active') AS activePoleCount " +
+           "FROM InfusionSession s WHERE s.status = 'ACTIVE'")
+    SessionCounts countActiveSessionsForDashboard();
+
+    // Backfill remaining_pct for rows written before the column existed
+    @Modifying
+    @Query("UPDATE InfusionSession s SET s.remainingPct = s.remainingVolume * 100.0 / s.totalVolumeMl " +
+           "WHERE s.remainingPct IS NULL AND s.totalVolumeMl > 0")
+    int backfillRemainingPct();
+
+    // Backfill volume_band for sessions written before the column existed (added with default 0 = normal)
+    // Same thresholds as InfusionSession.volumeBandOf - otherwise the first sample re-raises an existing alert
+    @Modifying
+    @Query("UPDATE InfusionSession s SET s.volumeBand = " +
+           "CASE WHEN s.remainingVolume * 100.0 / s.totalVolumeMl < 5 THEN 2 ELSE 1 END " +
+           "WHERE s.volumeBand = 0 AND s.status <> 'ENDED' AND s.totalVolumeMl > 0 " +
+           "AND s.remainingVolume * 100.0 / s.totalVolumeMl < 10")
+    int backfillVolumeBand();
+
+    // Ingest path - partial update of the volume columns only while the session is ACTIVE
+    // (no version bump, never overwrites a nurse's pause/end, 0 rows = session no longer ACTIVE)
+    // A worse band is left for escalateVolumeBand so that only one concurrent sample raises the alert
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InfusionSession s SET s.remainingVolume = :remainingVolume, " +
+           "s.remainingPct = CASE WHEN s.totalVolumeMl > 0 THEN :remainingVolume * 100.0 / s.totalVolumeMl ELSE NULL END, " +
+           "s.endExpTime = COALESCE(:endExpTime, s.endExpTime), " +
+           "s.volumeBand = CASE WHEN s.volumeBand < :volumeBand THEN s.volumeBand ELSE :volumeBand END " +
+           "WHERE s.sessionId = :sessionId AND s.status = 'ACTIVE'")
+    int updateIngestedVolume(@Param("sessionId") Integer sessionId,
+                             @Param("remainingVolume") Integer remainingVolume,
+                             @Param("endExpTime") LocalDateTime endExpTime,
+                             @Param("volumeBand") Integer volumeBand);
+
+    // Sample that crosses into a worse band - at most one concurrent sample matches per band
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InfusionSession s SET s.volumeBand = :volumeBand " +
+           "WHERE s.sessionId = :sessionId AND s.status = 'ACTIVE' AND s.volumeBand < :volumeBand")
+    int escalateVolumeBand(@Param("sessionId") Integer sessionId, @Param("volumeBand") Integer volumeBand);
+
+    // Ward of each session (session -> patient -> room), sessions without a room are omitted
+    @Query("SELECT s.sessionId AS sessionId, r.wardId AS wardId FROM InfusionSession s, Patient p, Room r " +
+           "WHERE p.patientId = s.patientId AND r.roomId = p.roomId AND s.sessionId IN :sessionIds")
+    List<SessionWard> findWardsBySessionIds(@Param("sessionIds") Collection<Integer> sessionIds);
+
+    // Delete sessions by patient ID (for cascade deletion) - one statement, no entity loading
+    @Modifying
+    @Query("DELETE FROM InfusionSession s WHERE s.patientId = :patientId")
+    int deleteByPatientId(@Param("patientId") Integer patientId);
+
+    // Read-only list projection (column values only, no entity hydration or lazy proxies)
+    String SUMMARY_SELECT = "SELECT new com.example.smartpole.dto.view.InfusionSessionSummary(" +
+            "s.sessionId, s.patientId, s.dripId, s.startTime, s.endTime, s.endExpTime, s.remainingVolume, " +
+            "s.flowRate, s.ivPoleId, s.prescriptionId, s.status, s.totalVolumeMl, s.remainingPct) FROM InfusionSession s ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY s.sessionId ASC")
+    List<InfusionSessionSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE s.status = 'ACTIVE' ORDER BY s.startTime ASC")
+    List<InfusionSessionSummary> findActiveSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE s.patientId = :patientId ORDER BY s.sessionId ASC")
+    List<InfusionSessionSummary> findSummariesByPatientId(@Param("patientId") Integer patientId);
+}
@@ -1,8 +1,10 @@
 package com.example.smartpole.repository;
 
 import com.example.smartpole.entity.Nurse;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +14,11 @@ import java.util.Optional;
 @Repository
 public interface NurseRepository extends JpaRepository<Nurse, Integer> {
 
+    // All nurses (query result cached in the second-level cache)
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<Nurse> findAll();
+
     Optional<Nurse> findByEmployeeId(String employeeId);
 
     @Query("SELECT n FROM Nurse n WHERE n.employeeId = :employeeId AND n.password = :password")
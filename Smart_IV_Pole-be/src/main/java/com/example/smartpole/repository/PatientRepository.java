@@ -1,11 +1,17 @@
 package com.example.smartpole.repository;
 
+import com.example.smartpole.dto.mobile.PatientLoginView;
+import com.example.smartpole.dto.view.PatientSummary;
 import com.example.smartpole.entity.Patient;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +24,46 @@ public interface PatientRepository extends JpaRepository<Patient, Integer> {
     @Query("SELECT p FROM Patient p WHERE p.name LIKE %:keyword% OR p.phone LIKE %:keyword%")
     List<Patient> findByKeyword(@Param("keyword") String keyword);
 
-    // 모바일 앱 로그인용 - 전화번호로 환자 검색
-    java.util.Optional<Patient> findByPhone(String phone);
-}
\ No newline at end of file
+    // 모바일 앱 로그인용 - 정규화한 전화번호(인덱스)로 필요한 컬럼만 조회, 같은 번호의 환자가 여럿일 수 있음
+    @Query("SELECT new com.example.smartpole.dto.mobile.PatientLoginView(" +
+           "p.patientId, p.name, p.phone, p.roomId, p.bedNumber, p.pinCode) " +
+           "FROM Patient p WHERE p.phoneNormalized = :phoneNormalized ORDER BY p.patientId")
+    List<PatientLoginView> findLoginViewsByPhoneNormalized(@Param("phoneNormalized") String phoneNormalized);
+
+    // Backfill phone_normalized for rows saved before the column existed
+    @Modifying
+    @Query(value = "UPDATE patients SET phone_normalized = REGEXP_REPLACE(phone, '[^0-9]', '') " +
+                   "WHERE phone_normalized IS NULL AND phone REGEXP '[0-9]'",
+           nativeQuery = true)
+    int backfillPhoneNormalized();
+
+    // Count phone numbers shared by more than one patient (login has to tell them apart by PIN)
+    @Query(value = "SELECT COUNT(*) FROM (SELECT phone_normalized FROM patients WHERE phone_normalized IS NOT NULL " +
+                   "GROUP BY phone_normalized HAVING COUNT(*) > 1) shared",
+           nativeQuery = true)
+    long countSharedPhoneNormalized();
+
+    // Keyset pagination (patients, newest first) - first page
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.patientId DESC")
+    List<PatientSummary> findPageFirst(Limit limit);
+
+    // Keyset pagination - rows after the cursor (createdAt, patientId)
+    @Query(SUMMARY_SELECT + "WHERE p.createdAt < :time OR (p.createdAt = :time AND p.patientId < :id) " +
+           "ORDER BY p.createdAt DESC, p.patientId DESC")
+    List<PatientSummary> findPageAfter(@Param("time") LocalDateTime time, @Param("id") Integer id, Limit limit);
+
+    // Read-only list projection (only the columns used by list screens, no entity hydration)
+    String SUMMARY_SELECT = "SELECT new com.example.smartpole.dto.view.PatientSummary(" +
+            "p.patientId, p.name, p.phone, p.birthDate, p.gender, p.weightKg, p.heightCm, " +
+            "p.roomId, p.bedNumber, p.createdAt, p.assignedPoleId) FROM Patient p ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.patientId ASC")
+    List<PatientSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.name LIKE %:keyword% OR p.phone LIKE %:keyword%")
+    List<PatientSummary> findSummariesByKeyword(@Param("keyword") String keyword);
+
+    // Search index hits (ranked ids resolved to rows)
+    @Query(SUMMARY_SELECT + "WHERE p.patientId IN :ids")
+    List<PatientSummary> findSummariesByIds(@Param("ids") Collection<Integer> ids);
+}
@@ -1,12 +1,17 @@
 package com.example.smartpole.repository;
 
+import com.example.smartpole.dto.dashboard.PoleFleetCounts;
 import com.example.smartpole.entity.Pole;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,17 +27,44 @@ public interface PoleRepository extends JpaRepository<Pole, String> {
     // Find online poles
     List<Pole> findByIsOnlineOrderByPoleIdAsc(Boolean isOnline);
 
+    // Online poles whose ping was written since the given time (pings persisted by other nodes)
+    @Query("SELECT p FROM Pole p WHERE p.isOnline = true AND p.lastPingAt >= :since")
+    List<Pole> findOnlinePolesPingedSince(@Param("since") LocalDateTime since);
+
     // Find available online poles (online + not assigned)
     List<Pole> findByIsOnlineAndPatientIdIsNullOrderByPoleIdAsc(Boolean isOnline);
 
+    // Pole listings below fetch the assigned patient in the same query (no per-pole patient lookup)
+    @Query("SELECT p FROM Pole p LEFT JOIN FETCH p.patient ORDER BY p.poleId ASC")
+    List<Pole> findAllWithPatient();
+
+    @Query("SELECT p FROM Pole p LEFT JOIN FETCH p.patient WHERE p.status = :status ORDER BY p.poleId ASC")
+    List<Pole> findByStatusWithPatient(@Param("status") Pole.PoleStatus status);
+
+    @Query("SELECT p FROM Pole p LEFT JOIN FETCH p.patient WHERE p.isOnline = :isOnline ORDER BY p.poleId ASC")
+    List<Pole> findByIsOnlineWithPatient(@Param("isOnline") Boolean isOnline);
+
+    @Query("SELECT p FROM Pole p LEFT JOIN FETCH p.patient WHERE p.patientId = :patientId")
+    List<Pole> findByPatientIdWithPatient(@Param("patientId") Integer patientId);
+
     // Find poles with low battery
-    @Query("SELECT p FROM Pole p WHERE p.batteryLevel <= :threshold ORDER BY p.batteryLevel ASC")
+    @Query("SELECT p FROM Pole p LEFT JOIN FETCH p.patient WHERE p.batteryLevel <= :threshold ORDER BY p.batteryLevel ASC")
     List<Pole> findLowBatteryPoles(@Param("threshold") Integer threshold);
 
     // Get poles needing maintenance (low battery or maintenance status)
-    @Query("SELECT p FROM Pole p WHERE p.status = 'maintenance' OR p.batteryLevel <= :batteryThreshold ORDER BY p.batteryLevel ASC")
+    @Query("SELECT p FROM Pole p LEFT JOIN FETCH p.patient " +
+           "WHERE p.status = 'maintenance' OR p.batteryLevel <= :batteryThreshold ORDER BY p.batteryLevel ASC")
     List<Pole> findPolesNeedingMaintenance(@Param("batteryThreshold") Integer batteryThreshold);
 
+    // Fleet counters in one aggregate query (statistics reconcile)
+    @Query("SELECT COUNT(p) AS total, " +
+           "COALESCE(SUM(CASE WHEN p.isOnline = true THEN 1 ELSE 0 END), 0) AS online, " +
+           "COALESCE(SUM(CASE WHEN p.patientId IS NOT NULL THEN 1 ELSE 0 END), 0) AS assigned, " +
+           "COALESCE(SUM(CASE WHEN p.status = 'maintenance' THEN 1 ELSE 0 END), 0) AS maintenance, " +
+           "COALESCE(SUM(CASE WHEN p.status = 'active' THEN 1 ELSE 0 END), 0) AS active " +
+           "FROM Pole p")
+    PoleFleetCounts countFleet();
+
     // Count active poles
     @Query("SELECT COUNT(p) FROM Pole p WHERE p.status = 'active'")
     Long countActivePoles();
@@ -48,13 +80,32 @@ public interface PoleRepository extends JpaRepository<Pole, String> {
     @Query("SELECT p FROM Pole p WHERE p.patientId IS NULL AND p.status = 'active'")
     List<Pole> findAvailablePoles();
 
-    @Query("SELECT p FROM Pole p WHERE p.patientId IS NOT NULL")
+    @Query("SELECT p FROM Pole p LEFT JOIN FETCH p.patient WHERE p.patientId IS NOT NULL")
     List<Pole> findAssignedPoles();
 
     boolean existsByPatientId(Integer patientId);
 
+    // Pole IDs assigned to a patient (used to keep fleet statistics in sync with bulk unassignment)
+    @Query("SELECT p.poleId FROM Pole p WHERE p.patientId = :patientId")
+    List<String> findPoleIdsByPatientId(@Param("patientId") Integer patientId);
+
     // Clear patient assignment (for patient deletion)
     @Modifying
     @Query("UPDATE Pole p SET p.patientId = NULL WHERE p.patientId = :patientId")
     void clearPatientAssignment(@Param("patientId") Integer patientId);
-}
\ No newline at end of file
+
+    // Lock online poles whose last ping is older than the cutoff (offline candidates)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.poleId FROM Pole p WHERE p.poleId IN :poleIds AND p.isOnline = true " +
+           "AND (p.lastPingAt IS NULL OR p.lastPingAt < :cutoff)")
+    List<String> lockStaleOnlinePoleIds(@Param("poleIds") Collection<String> poleIds,
+                                        @Param("cutoff") LocalDateTime cutoff);
+
+    // Heartbeat write-behind flush (does not touch updated_at)
+    @Modifying
+    @Query("UPDATE Pole p SET p.lastPingAt = :pingAt, p.isOnline = true, " +
+           "p.batteryLevel = COALESCE(:batteryLevel, p.batteryLevel) WHERE p.poleId = :poleId")
+    int updateHeartbeat(@Param("poleId") String poleId,
+                        @Param("pingAt") LocalDateTime pingAt,
+                        @Param("batteryLevel") Integer batteryLevel);
+}
@@ -1,7 +1,11 @@
 package com.example.smartpole.repository;
 
+import com.example.smartpole.dto.PrescriptionDue;
+import com.example.smartpole.dto.view.PrescriptionSummary;
 import com.example.smartpole.entity.Prescription;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,8 +20,10 @@ public interface PrescriptionRepository extends JpaRepository<Prescription, Inte
     // Find prescriptions by patient
     List<Prescription> findByPatientId(Integer patientId);
 
-    // Delete all prescriptions for a patient (cascade deletion)
-    void deleteByPatientId(Integer patientId);
+    // Delete all prescriptions for a patient (cascade deletion) - one statement, no entity loading
+    @Modifying
+    @Query("DELETE FROM Prescription p WHERE p.patientId = :patientId")
+    int deleteByPatientId(@Param("patientId") Integer patientId);
 
     // Find prescriptions by status
     List<Prescription> findByStatus(Prescription.PrescriptionStatus status);
@@ -40,10 +46,30 @@ public interface PrescriptionRepository extends JpaRepository<Prescription, Inte
     @Query("SELECT p FROM Prescription p WHERE p.status = 'PRESCRIBED' AND p.patientId = :patientId")
     List<Prescription> findStartablePrescriptions(@Param("patientId") Integer patientId);
 
-    // Find prescriptions needing attention (active but overdue)
-    @Query("SELECT p FROM Prescription p WHERE p.status = 'ACTIVE' AND " +
-           "TIMESTAMPDIFF(HOUR, p.startedAt, NOW()) > p.durationHours")
-    List<Prescription> findOverduePrescriptions();
+    // Find prescriptions needing attention (active but past their due time) - range scan on (status, due_at)
+    @Query("SELECT p FROM Prescription p WHERE p.status = 'ACTIVE' AND p.dueAt < :now ORDER BY p.dueAt ASC")
+    List<Prescription> findOverduePrescriptions(@Param("now") LocalDateTime now);
+
+    // Active prescriptions whose due time falls in [from, until) - feeds the overdue timer queue
+    @Query("SELECT p.id AS prescriptionId, p.dueAt AS dueAt FROM Prescription p " +
+           "WHERE p.status = 'ACTIVE' AND p.dueAt >= :from AND p.dueAt < :until")
+    List<PrescriptionDue> findActiveDueBetween(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    // Backfill due_at for prescriptions started before the column existed
+    // paused_at stays NULL for legacy PAUSED rows (pause start unknown) - resume then keeps due_at as is
+    @Modifying
+    @Query(value = "UPDATE prescriptions SET due_at = started_at + INTERVAL ROUND(duration_hours * 3600) SECOND " +
+                   "WHERE due_at IS NULL AND started_at IS NOT NULL AND status IN ('ACTIVE', 'PAUSED')",
+           nativeQuery = true)
+    int backfillDueAt();
+
+    // Complete the patient's ACTIVE/PRESCRIBED prescriptions in one statement (superseded by a new prescription)
+    // Bulk update skips entity callbacks - the overdue timer re-checks status before it fires
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Prescription p SET p.status = 'COMPLETED', p.completedAt = :completedAt " +
+           "WHERE p.patientId = :patientId AND p.status IN ('ACTIVE', 'PRESCRIBED')")
+    int completeSupersededByPatientId(@Param("patientId") Integer patientId,
+                                      @Param("completedAt") LocalDateTime completedAt);
 
     // Count active prescriptions by patient
     @Query("SELECT COUNT(p) FROM Prescription p WHERE p.patientId = :patientId AND p.status = 'ACTIVE'")
@@ -54,8 +80,33 @@ public interface PrescriptionRepository extends JpaRepository<Prescription, Inte
            "ORDER BY p.prescribedAt DESC")
     List<Prescription> findRecentPrescriptions(@Param("since") LocalDateTime since);
 
+    // Keyset pagination (prescriptions, newest first) - first page
+    @Query(SUMMARY_SELECT + "ORDER BY p.prescribedAt DESC, p.id DESC")
+    List<PrescriptionSummary> findPageFirst(Limit limit);
+
+    // Keyset pagination - rows after the cursor (prescribedAt, id)
+    @Query(SUMMARY_SELECT + "WHERE p.prescribedAt < :time OR (p.prescribedAt = :time AND p.id < :id) " +
+           "ORDER BY p.prescribedAt DESC, p.id DESC")
+    List<PrescriptionSummary> findPageAfter(@Param("time") LocalDateTime time, @Param("id") Integer id, Limit limit);
+
     // Find latest prescription by patient (for mobile app)
     @Query("SELECT p FROM Prescription p WHERE p.patientId = :patientId " +
            "ORDER BY p.prescribedAt DESC LIMIT 1")
     Optional<Prescription> findLatestByPatientId(@Param("patientId") Integer patientId);
-}
\ No newline at end of file
+
+    // Read-only list projection (column values only, no entity hydration or lazy proxies)
+    String SUMMARY_SELECT = "SELECT new com.example.smartpole.dto.view.PrescriptionSummary(" +
+            "p.id, p.patientId, p.drugTypeId, p.totalVolumeMl, p.infusionRateMlHr, p.gttFactor, p.calculatedGtt, " +
+            "p.durationHours, p.specialInstructions, p.status, p.prescribedAt, p.prescribedBy, p.startedAt, p.completedAt) " +
+            "FROM Prescription p ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.id ASC")
+    List<PrescriptionSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE p.patientId = :patientId ORDER BY p.id ASC")
+    List<PrescriptionSummary> findSummariesByPatientId(@Param("patientId") Integer patientId);
+
+    @Query(SUMMARY_SELECT + "WHERE p.patientId = :patientId AND (p.status = 'ACTIVE' OR p.status = 'PRESCRIBED') " +
+           "ORDER BY p.prescribedAt DESC")
+    List<PrescriptionSummary> findActiveSummariesByPatientId(@Param("patientId") Integer patientId);
+}
@@ -1,8 +1,11 @@
 package com.example.smartpole.repository;
 
+import com.example.smartpole.dto.dashboard.WardOverviewRow;
 import com.example.smartpole.entity.Room;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,10 +14,23 @@ import java.util.List;
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Integer> {
 
+    // Rooms of a ward (query result cached in the second-level cache)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Room> findByWardId(String wardId);
 
     @Query("SELECT r FROM Room r WHERE r.wardId = :wardId AND r.roomNumber = :roomNumber")
     List<Room> findByWardIdAndRoomNumber(@Param("wardId") String wardId, @Param("roomNumber") String roomNumber);
 
     boolean existsByRoomId(String roomId);
+
+    // Ward overview - rooms with their patients and active sessions in one query
+    @Query("SELECT r.roomId AS roomId, r.roomNumber AS roomNumber, r.roomPerson AS capacity, " +
+           "p.patientId AS patientId, p.name AS patientName, p.bedNumber AS bedNumber, " +
+           "s.sessionId AS sessionId, s.ivPoleId AS poleId, s.remainingPct AS remainingPct " +
+           "FROM Room r " +
+           "LEFT JOIN Patient p ON p.roomId = r.roomId " +
+           "LEFT JOIN InfusionSession s ON s.patientId = p.patientId AND s.status = 'ACTIVE' " +
+           "WHERE r.wardId = :wardId " +
+           "ORDER BY r.roomNumber, p.bedNumber")
+    List<WardOverviewRow> findWardOverviewRows(@Param("wardId") String wardId);
 }
\ No newline at end of file
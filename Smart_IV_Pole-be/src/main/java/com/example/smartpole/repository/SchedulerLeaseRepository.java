@@ -0,0 +1,42 @@
+package com.example.smartpole.repository;
+
+import com.example.smartpole.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // Renew own lease or take over an expired one (0 rows = held by another node, or row missing)
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.expiresAt = :expiresAt " +
+           "WHERE l.leaseName = :leaseName AND (l.owner = :owner OR l.expiresAt < :now)")
+    int tryAcquire(@Param("leaseName") String leaseName,
+                   @Param("owner") String owner,
+                   @Param("expiresAt") LocalDateTime expiresAt,
+                   @Param("now") LocalDateTime now);
+
+    // Create the lease row if no node has yet (1 = created by this node, 0 = already exists)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_leases (lease_name, owner, expires_at) " +
+                   "VALUES (:leaseName, :owner, :expiresAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("leaseName") String leaseName,
+                       @Param("owner") String owner,
+                       @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Expire own lease immediately so another node can take over without waiting for the TTL
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :now WHERE l.leaseName = :leaseName AND l.owner = :owner")
+    int release(@Param("leaseName") String leaseName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
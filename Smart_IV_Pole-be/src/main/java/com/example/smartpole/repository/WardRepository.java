@@ -1,8 +1,10 @@
 package com.example.smartpole.repository;
 
 import com.example.smartpole.entity.Ward;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +13,11 @@ import java.util.List;
 @Repository
 public interface WardRepository extends JpaRepository<Ward, String> {
 
+    // All wards (query result cached in the second-level cache)
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<Ward> findAll();
+
     @Query("SELECT w FROM Ward w WHERE w.wardName LIKE %:name%")
     List<Ward> findByWardNameContainingIgnoreCase(@Param("name") String name);
 
@@ -0,0 +1,42 @@
+package com.example.smartpole.scheduler;
+
+import com.example.smartpole.service.AlertRetentionService;
+import com.example.smartpole.service.SchedulerLeaseService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 보존 기간 관리 스케줄러 (리더 노드만)
+ * - 매일 새벽 월 파티션 사전 생성 + 보존 기간이 지난 확인 완료 알림 아카이브
+ */
+@Component
+public class AlertRetentionScheduledTasks {
+
+    private final AlertRetentionService alertRetentionService;
+    private final SchedulerLeaseService leaseService;
+
+    public AlertRetentionScheduledTasks(AlertRetentionService alertRetentionService,
+                                        SchedulerLeaseService leaseService) {
+        this.alertRetentionService = alertRetentionService;
+        this.leaseService = leaseService;
+    }
+
+    @Scheduled(cron = "${alert.retention.cron:0 30 3 * * *}")
+    public void archiveOldAlerts() {
+        if (!leaseService.isLeader(SchedulerLeaseService.ALERT_RETENTION)) {
+            return;
+        }
+
+        try {
+            alertRetentionService.ensureFuturePartitions();
+
+            int archived = alertRetentionService.archiveAcknowledgedAlerts();
+            if (archived > 0) {
+                System.out.println("🗄️ [Scheduler] 확인 완료 알림 " + archived + "건 아카이브 완료");
+            }
+        } catch (Exception e) {
+            System.err.println("❌ [Scheduler] 알림 아카이브 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
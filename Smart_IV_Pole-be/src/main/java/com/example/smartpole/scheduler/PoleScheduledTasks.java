@@ -1,84 +1,142 @@
 package com.example.smartpole.scheduler;
 
 import com.example.smartpole.entity.Pole;
+import com.example.smartpole.service.PoleFleetStatistics;
+import com.example.smartpole.service.PoleHeartbeatStore;
+import com.example.smartpole.service.PoleLivenessTracker;
 import com.example.smartpole.service.PoleService;
+import com.example.smartpole.service.SchedulerLeaseService;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * 폴대 상태 모니터링 스케줄러
- * - 60초마다 폴대 온라인 상태 확인
- * - 마지막 핑 이후 60초 이상 경과 시 오프라인 처리
+ * - 1초마다 타이밍 휠을 진행해 데드라인(마지막 핑 + 60초)을 놓친 폴대만 오프라인 처리
+ * - 작업마다 DB 리스를 보유한 노드(리더) 한 곳에서만 실행
+ * - 리더가 되면 DB의 온라인 폴대를 휠에 등록하고, 다른 노드가 DB에 기록한 핑을 주기적으로 반영
  * - WebSocket을 통해 프론트엔드에 상태 변경 알림
+ *   (/topic/poles/status는 폴대 단위 메시지 전용, 주기별 오프라인 일괄 알림은 /topic/poles/offline)
  */
 @Component
 public class PoleScheduledTasks {
 
+    private static final long PING_SYNC_INTERVAL_SECONDS = 10;
+
     private final PoleService poleService;
+    private final PoleLivenessTracker livenessTracker;
+    private final PoleHeartbeatStore heartbeatStore;
+    private final SchedulerLeaseService leaseService;
     private final SimpMessagingTemplate messagingTemplate;
 
-    public PoleScheduledTasks(PoleService poleService, SimpMessagingTemplate messagingTemplate) {
+    // 스케줄러 스레드에서만 접근
+    private boolean livenessLeader;
+    private LocalDateTime pingSyncedAt;
+
+    public PoleScheduledTasks(PoleService poleService, PoleLivenessTracker livenessTracker,
+                              PoleHeartbeatStore heartbeatStore, SchedulerLeaseService leaseService,
+                              SimpMessagingTemplate messagingTemplate) {
         this.poleService = poleService;
+        this.livenessTracker = livenessTracker;
+        this.heartbeatStore = heartbeatStore;
+        this.leaseService = leaseService;
         this.messagingTemplate = messagingTemplate;
     }
 
     /**
-     * 60초마다 폴대 온라인 상태 확인
-     * 마지막 핑 이후 60초 이상 경과 시 오프라인으로 표시
+     * 리더가 된 시점에 온라인으로 표시된 폴대를 휠에 등록
+     * DB의 마지막 핑은 write-behind로 늦게 기록됐을 수 있으므로 지금부터 한 주기의 유예를 줌
+     * (유예 동안 핑이 없으면 오프라인 처리)
+     * 핑 저장소도 DB의 온라인 상태로 맞춤 (이전 리더가 오프라인 처리한 폴대의 다음 핑이 DB에 기록되도록)
+     */
+    private void armOnlinePoles() {
+        List<Pole> onlinePoles = poleService.getOnlinePoles();
+        List<String> onlinePoleIds = new ArrayList<>(onlinePoles.size());
+        for (Pole pole : onlinePoles) {
+            livenessTracker.arm(pole.getPoleId());
+            onlinePoleIds.add(pole.getPoleId());
+        }
+        heartbeatStore.retainOnline(onlinePoleIds);
+        pingSyncedAt = LocalDateTime.now();
+        System.out.println("⏰ [Scheduler] 온라인 폴대 " + onlinePoles.size() + "개 타이밍 휠 등록 완료");
+    }
+
+    /**
+     * 다른 노드가 받아 DB에 기록한 핑을 휠에 반영 (last_ping_at 범위 조회)
+     */
+    private void syncPingsFromDatabase() {
+        LocalDateTime now = LocalDateTime.now();
+        if (pingSyncedAt.plusSeconds(PING_SYNC_INTERVAL_SECONDS).isAfter(now)) {
+            return;
+        }
+
+        // 노드 간 기록 지연을 감안해 한 주기 겹쳐서 조회
+        for (Pole pole : poleService.getOnlinePolesPingedSince(pingSyncedAt.minusSeconds(PING_SYNC_INTERVAL_SECONDS))) {
+            livenessTracker.extend(pole.getPoleId(), pole.getLastPingAt());
+        }
+        pingSyncedAt = now;
+    }
+
+    /**
+     * 1초마다 타이밍 휠 진행 (리더 노드만)
+     * 데드라인을 놓친 폴대만 한 번의 UPDATE로 오프라인 처리하고 WebSocket 알림도 한 번만 전송
      */
-    @Scheduled(fixedRate = 60000) // 60초마다 실행
+    @Scheduled(fixedRate = 1000)
     public void checkPoleOnlineStatus() {
-        System.out.println("⏰ [Scheduler] 폴대 온라인 상태 확인 시작 - " + LocalDateTime.now());
+        if (!leaseService.isLeader(SchedulerLeaseService.POLE_LIVENESS)) {
+            livenessLeader = false;
+            return;
+        }
 
         try {
-            // 모든 폴대 조회
-            List<Pole> allPoles = poleService.getAllPoles();
-            int offlineCount = 0;
-
-            for (Pole pole : allPoles) {
-                // 이전 상태 저장
-                boolean wasOnline = pole.getIsOnline();
-
-                // 현재 온라인 상태 확인 (마지막 핑 기준 60초)
-                boolean isOnlineNow = pole.isOnlineNow();
-
-                // 상태 변경이 있는 경우
-                if (wasOnline != isOnlineNow) {
-                    if (!isOnlineNow) {
-                        // 온라인 → 오프라인 전환
-                        System.out.println("🔴 [Scheduler] 폴대 오프라인 감지: " + pole.getPoleId());
-                        pole.markOffline();
-                        poleService.savePole(pole);
-                        offlineCount++;
-
-                        // WebSocket으로 오프라인 알림 전송
-                        Map<String, Object> wsMessage = new HashMap<>();
-                        wsMessage.put("pole_id", pole.getPoleId());
-                        wsMessage.put("is_online", false);
-                        wsMessage.put("battery_level", pole.getBatteryLevel());
-                        wsMessage.put("last_ping_at", pole.getLastPingAt() != null ? pole.getLastPingAt().toString() : null);
-                        wsMessage.put("status_change", "offline");
-
-                        messagingTemplate.convertAndSend("/topic/poles/status", wsMessage);
-                    } else {
-                        // 오프라인 → 온라인 전환 (자동 복구)
-                        System.out.println("🟢 [Scheduler] 폴대 온라인 복구: " + pole.getPoleId());
+            if (!livenessLeader) {
+                armOnlinePoles();
+                livenessLeader = true;
+            }
+            syncPingsFromDatabase();
+
+            List<String> expiredPoleIds = livenessTracker.advance();
+            if (expiredPoleIds.isEmpty()) {
+                return;
+            }
+
+            List<String> offlinePoleIds = poleService.markPolesOffline(expiredPoleIds, livenessTracker.offlineCutoff());
+
+            // 그 사이 다른 노드에서 핑이 기록된 폴대는 DB의 마지막 핑 기준으로 다시 등록
+            if (offlinePoleIds.size() < expiredPoleIds.size()) {
+                for (String poleId : expiredPoleIds) {
+                    if (!offlinePoleIds.contains(poleId)) {
+                        poleService.getPoleById(poleId)
+                                .filter(pole -> Boolean.TRUE.equals(pole.getIsOnline()) && pole.getLastPingAt() != null)
+                                .ifPresent(pole -> livenessTracker.extend(poleId, pole.getLastPingAt()));
                     }
                 }
             }
 
-            if (offlineCount > 0) {
-                System.out.println("⚠️ [Scheduler] 총 " + offlineCount + "개 폴대 오프라인 처리됨");
-            } else {
-                System.out.println("✅ [Scheduler] 모든 폴대 정상 상태");
+            if (offlinePoleIds.isEmpty()) {
+                return;
             }
 
+            System.out.println("🔴 [Scheduler] 폴대 오프라인 감지 (" + offlinePoleIds.size() + "개): " + offlinePoleIds);
+
+            // WebSocket으로 이번 주기에 오프라인 처리된 폴대 목록을 한 번에 전송
+            // 형식이 다르므로 폴대 단위 메시지(pole_id)를 받는 /topic/poles/status와 토픽을 분리
+            Map<String, Object> wsMessage = new HashMap<>();
+            wsMessage.put("type", "poles_offline");
+            wsMessage.put("pole_ids", offlinePoleIds);
+            wsMessage.put("count", offlinePoleIds.size());
+            wsMessage.put("is_online", false);
+            wsMessage.put("status_change", "offline");
+            wsMessage.put("timestamp", LocalDateTime.now().toString());
+
+            messagingTemplate.convertAndSend("/topic/poles/offline", wsMessage);
+
         } catch (Exception e) {
             System.err.println("❌ [Scheduler] 폴대 상태 확인 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -90,31 +148,22 @@ public class PoleScheduledTasks {
      */
     @Scheduled(fixedRate = 600000) // 10분마다 실행
     public void logPoleStatistics() {
+        if (!leaseService.isLeader(SchedulerLeaseService.POLE_STATISTICS)) {
+            return;
+        }
+
         System.out.println("\n📊 [Scheduler] 폴대 상태 통계 - " + LocalDateTime.now());
 
         try {
-            List<Pole> allPoles = poleService.getAllPoles();
-            List<Pole> onlinePoles = poleService.getOnlinePoles();
-
-            int totalPoles = allPoles.size();
-            int onlineCount = onlinePoles.size();
-            int offlineCount = totalPoles - onlineCount;
-
-            // 배터리 통계
-            int lowBatteryCount = (int) onlinePoles.stream()
-                    .filter(pole -> pole.getBatteryLevel() != null && pole.getBatteryLevel() < 20)
-                    .count();
-
-            // 환자 연결 통계
-            int connectedCount = (int) allPoles.stream()
-                    .filter(pole -> pole.getPatientId() != null)
-                    .count();
+            // 증분 유지 카운터 사용 (테이블 스캔 없음)
+            Map<String, Object> statistics = poleService.getFleetStatistics();
 
             System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-            System.out.println("총 폴대 수: " + totalPoles + "개");
-            System.out.println("온라인: " + onlineCount + "개 | 오프라인: " + offlineCount + "개");
-            System.out.println("환자 연결: " + connectedCount + "개");
-            System.out.println("저배터리 (<20%): " + lowBatteryCount + "개");
+            System.out.println("총 폴대 수: " + statistics.get("total") + "개");
+            System.out.println("온라인: " + statistics.get("online") + "개 | 오프라인: " + statistics.get("offline") + "개");
+            System.out.println("환자 연결: " + statistics.get("assigned") + "개");
+            System.out.println("저배터리 (<" + PoleFleetStatistics.LOW_BATTERY_THRESHOLD + "%): " + statistics.get("lowBattery") + "개");
+            System.out.println("유지보수: " + statistics.get("maintenance") + "개");
             System.out.println("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
 
         } catch (Exception e) {
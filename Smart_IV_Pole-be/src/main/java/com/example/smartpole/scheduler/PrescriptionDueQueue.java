@@ -0,0 +1,95 @@
+package com.example.smartpole.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 처방 완료 예정 시각 우선순위 큐 (가장 이른 due_at이 머리)
+ * - 예정 시각이 바뀌면 새 항목을 넣고 이전 항목은 꺼낼 때 버림 (지연 삭제)
+ * - 같은 (처방, 예정 시각)은 한 번만 만료로 반환
+ */
+class PrescriptionDueQueue {
+
+    record Due(Integer prescriptionId, LocalDateTime dueAt) {
+    }
+
+    private final PriorityQueue<Due> queue = new PriorityQueue<>(Comparator.comparing(Due::dueAt));
+    private final Map<Integer, LocalDateTime> pending = new HashMap<>();
+    private final Map<Integer, LocalDateTime> fired = new HashMap<>();
+
+    /**
+     * 예정 시각 등록/변경
+     * @return 큐의 가장 이른 예정 시각이 앞당겨졌으면 true (타이머 재설정 필요)
+     */
+    synchronized boolean offer(Integer prescriptionId, LocalDateTime dueAt) {
+        if (dueAt.equals(pending.get(prescriptionId)) || dueAt.equals(fired.get(prescriptionId))) {
+            return false;
+        }
+        LocalDateTime head = nextDueAt();
+        pending.put(prescriptionId, dueAt);
+        queue.add(new Due(prescriptionId, dueAt));
+        return head == null || dueAt.isBefore(head);
+    }
+
+    synchronized void cancel(Integer prescriptionId) {
+        pending.remove(prescriptionId);
+    }
+
+    /**
+     * 가장 이른 예정 시각 (없으면 null)
+     */
+    synchronized LocalDateTime nextDueAt() {
+        discardStaleHead();
+        Due head = queue.peek();
+        return head != null ? head.dueAt() : null;
+    }
+
+    /**
+     * now 시점까지 예정 시각이 지난 항목을 꺼냄 (이미 반환한 항목은 다시 반환하지 않음)
+     */
+    synchronized List<Due> pollDue(LocalDateTime now) {
+        List<Due> due = new ArrayList<>();
+        discardStaleHead();
+        while (!queue.isEmpty() && !queue.peek().dueAt().isAfter(now)) {
+            Due head = queue.poll();
+            pending.remove(head.prescriptionId());
+            fired.put(head.prescriptionId(), head.dueAt());
+            due.add(head);
+            discardStaleHead();
+        }
+        return due;
+    }
+
+    /**
+     * 만료 기록 정리 (before 이전 예정 시각은 다시 등록될 일이 없음)
+     */
+    synchronized void pruneFired(LocalDateTime before) {
+        fired.values().removeIf(dueAt -> dueAt.isBefore(before));
+    }
+
+    /**
+     * 만료 기록 전체 삭제 (리더 인수 시 이미 지난 처방을 다시 알리기 위해)
+     */
+    synchronized void clearFired() {
+        fired.clear();
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    private void discardStaleHead() {
+        while (!queue.isEmpty()) {
+            Due head = queue.peek();
+            if (head.dueAt().equals(pending.get(head.prescriptionId()))) {
+                return;
+            }
+            queue.poll();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.smartpole.scheduler;
+
+import com.example.smartpole.dto.PrescriptionDue;
+import com.example.smartpole.entity.Prescription;
+import com.example.smartpole.event.PrescriptionChangedEvent;
+import com.example.smartpole.repository.PrescriptionRepository;
+import com.example.smartpole.service.SchedulerLeaseService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 처방 지연(완료 예정 시각 경과) 감지 스케줄러
+ * - 진행 중 처방의 due_at을 우선순위 큐에 두고, 가장 이른 시각에 한 번만 깨어나 만료된 처방만 처리
+ * - 처방 저장 이벤트로 즉시 갱신, 다른 노드의 변경은 30초마다 due_at 범위 조회로 반영 (알림을 보내는 리더 노드만 조회)
+ * - 리더가 된 직후(기동 포함)에는 이미 지난 처방 전체를 큐에 다시 넣음 → 리더 부재 중 만료된 처방도 알림
+ * - 만료 시점에 DB에서 상태를 다시 확인한 뒤 리더 노드만 WebSocket으로 알림 (/topic/prescriptions/overdue)
+ */
+@Component
+public class PrescriptionDueScheduler {
+
+    private static final Duration LOOKAHEAD = Duration.ofMinutes(2);
+    private static final Duration LOOKBACK = Duration.ofMinutes(1);
+
+    private final PrescriptionRepository prescriptionRepository;
+    private final SchedulerLeaseService leaseService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final PrescriptionDueQueue queue = new PrescriptionDueQueue();
+    private final ScheduledExecutorService timerExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "prescription-due");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 다음 만료 타이머 (this로 보호)
+    private ScheduledFuture<?> timer;
+    private LocalDateTime timerAt;
+
+    // 직전 reload 시점에 리더였는지 (리더 인수 감지용)
+    private volatile boolean dueLeader;
+
+    public PrescriptionDueScheduler(PrescriptionRepository prescriptionRepository,
+                                    SchedulerLeaseService leaseService,
+                                    SimpMessagingTemplate messagingTemplate) {
+        this.prescriptionRepository = prescriptionRepository;
+        this.leaseService = leaseService;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timerExecutor.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPrescriptionChanged(PrescriptionChangedEvent event) {
+        if (event.isRemoved() || event.getStatus() != Prescription.PrescriptionStatus.ACTIVE || event.getDueAt() == null) {
+            queue.cancel(event.getPrescriptionId());
+        } else if (queue.offer(event.getPrescriptionId(), event.getDueAt())) {
+            armTimer();
+        }
+    }
+
+    /**
+     * 곧 예정 시각이 되는 처방을 DB에서 다시 읽어 큐에 반영 (기동 시 + 30초마다)
+     * 직전 1분 범위도 포함 → 주기 사이에 다른 노드에서 재개되어 바로 만료된 처방도 놓치지 않음
+     * 리더를 새로 맡은 주기에는 1분보다 오래 지난 처방까지 모두 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRate = 30000, initialDelay = 30000)
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        boolean headChanged = false;
+
+        // 알림은 리더만 보내므로 다른 노드는 DB를 조회하지 않음 (이벤트로 들어온 항목만 큐에 유지)
+        if (!leaseService.isLeader(SchedulerLeaseService.PRESCRIPTION_DUE)) {
+            dueLeader = false;
+            return;
+        }
+        if (!dueLeader) {
+            headChanged = seedOverdue(now);
+            dueLeader = true;
+        }
+
+        List<PrescriptionDue> dues = prescriptionRepository.findActiveDueBetween(now.minus(LOOKBACK), now.plus(LOOKAHEAD));
+        for (PrescriptionDue due : dues) {
+            headChanged |= queue.offer(due.getPrescriptionId(), due.getDueAt());
+        }
+        queue.pruneFired(now.minus(LOOKBACK.multipliedBy(2)));
+        if (headChanged) {
+            armTimer();
+        }
+    }
+
+    /**
+     * 이미 예정 시각이 지난 진행 중 처방을 큐에 넣음 (이전 리더가 알렸을 수 있어 중복 알림 가능)
+     */
+    private boolean seedOverdue(LocalDateTime now) {
+        List<Prescription> overdue = prescriptionRepository.findOverduePrescriptions(now);
+        // 리더가 아닐 때 꺼내고 알리지 않은 항목도 다시 받도록 만료 기록을 비움
+        queue.clearFired();
+        boolean headChanged = false;
+        for (Prescription prescription : overdue) {
+            headChanged |= queue.offer(prescription.getId(), prescription.getDueAt());
+        }
+        if (!overdue.isEmpty()) {
+            System.out.println("⏰ [Scheduler] 리더 인수 - 완료 예정 시각이 지난 처방 " + overdue.size() + "건 재확인");
+        }
+        return headChanged;
+    }
+
+    private synchronized void armTimer() {
+        LocalDateTime next = queue.nextDueAt();
+        if (next == null || (timer != null && !timer.isDone() && !next.isBefore(timerAt))) {
+            return;
+        }
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        timerAt = next;
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), next).toMillis());
+        timer = timerExecutor.schedule(this::fireDue, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void fireDue() {
+        List<PrescriptionDueQueue.Due> due = queue.pollDue(LocalDateTime.now());
+        synchronized (this) {
+            timer = null;
+        }
+        armTimer();
+
+        if (due.isEmpty() || !leaseService.isLeader(SchedulerLeaseService.PRESCRIPTION_DUE)) {
+            return;
+        }
+
+        try {
+            for (PrescriptionDueQueue.Due entry : due) {
+                // 다른 노드에서 일시정지/완료됐을 수 있으므로 현재 상태로 확인
+                prescriptionRepository.findById(entry.prescriptionId())
+                        .filter(Prescription::isActive)
+                        .filter(prescription -> prescription.getDueAt() != null
+                                && !prescription.getDueAt().isAfter(LocalDateTime.now()))
+                        .ifPresent(this::broadcastOverdue);
+            }
+        } catch (Exception e) {
+            System.err.println("❌ [Scheduler] 처방 지연 알림 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void broadcastOverdue(Prescription prescription) {
+        System.out.println("⏰ [Scheduler] 처방 완료 예정 시각 경과 - Prescription ID: " + prescription.getId());
+
+        Map<String, Object> wsMessage = new HashMap<>();
+        wsMessage.put("prescription_id", prescription.getId());
+        wsMessage.put("patient_id", prescription.getPatientId());
+        wsMessage.put("due_at", prescription.getDueAt().toString());
+        wsMessage.put("timestamp", LocalDateTime.now().toString());
+
+        messagingTemplate.convertAndSend("/topic/prescriptions/overdue", wsMessage);
+    }
+}
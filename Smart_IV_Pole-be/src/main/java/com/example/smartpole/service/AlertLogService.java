@@ -1,8 +1,14 @@
 package com.example.smartpole.service;
 
+import com.example.smartpole.dto.AlertAcknowledgeResult;
+import com.example.smartpole.dto.CursorPage;
+import com.example.smartpole.dto.dashboard.AlertView;
+import com.example.smartpole.dto.view.AlertSummary;
 import com.example.smartpole.entity.AlertLog;
+import com.example.smartpole.event.AlertsAcknowledgedEvent;
 import com.example.smartpole.repository.AlertLogRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,27 +21,45 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class AlertLogService {
 
+    private static final int ACKNOWLEDGE_CHUNK_SIZE = 1000;
+
     private final AlertLogRepository alertLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnacknowledgedAlertIndex alertIndex;
 
+    // 미확인 알림 조회는 메모리 색인에서 처리 (DB 조회 없음)
     public List<AlertLog> getAllUnacknowledgedAlerts() {
-        return alertLogRepository.findByAcknowledgedFalseOrderByCreatedAtDesc();
+        return toAlertLogs(alertIndex.getAll());
     }
 
     public List<AlertLog> getCriticalUnacknowledgedAlerts() {
-        return alertLogRepository.findUnacknowledgedCriticalAlerts();
+        return toAlertLogs(alertIndex.getBySeverity(AlertLog.Severity.critical));
+    }
+
+    public List<AlertLog> getUnacknowledgedAlertsByWard(String wardId) {
+        return toAlertLogs(alertIndex.getByWard(wardId));
     }
 
-    public List<AlertLog> getAlertsBySession(Integer sessionId) {
-        return alertLogRepository.findBySessionIdOrderByCreatedAtDesc(sessionId);
+    /**
+     * 전체 알림 이력 (커서 기반, 최신순)
+     */
+    public CursorPage<AlertSummary> getAlertPage(String cursor, Integer size) {
+        return CursorPage.fetch(cursor, size, alertLogRepository::findPageFirst, alertLogRepository::findPageAfter,
+                AlertSummary::createdAt, AlertSummary::alertId);
     }
 
-    public List<AlertLog> getRecentAlerts(int hours) {
+    // 목록 조회는 읽기 모델로 반환 (엔티티 로드/변경 감지 없이 필요한 컬럼만 조회)
+    public List<AlertSummary> getAlertsBySession(Integer sessionId) {
+        return alertLogRepository.findSummariesBySessionId(sessionId);
+    }
+
+    public List<AlertSummary> getRecentAlerts(int hours) {
         LocalDateTime since = LocalDateTime.now().minusHours(hours);
-        return alertLogRepository.findRecentAlerts(since);
+        return alertLogRepository.findRecentSummaries(since);
     }
 
     public Long countUnacknowledgedBySeverity(AlertLog.Severity severity) {
-        return alertLogRepository.countUnacknowledgedBySeverity(severity);
+        return (long) alertIndex.count(severity);
     }
 
     public Optional<AlertLog> getAlertById(Integer id) {
@@ -65,12 +89,31 @@ public class AlertLogService {
     }
 
     @Transactional
-    public void acknowledgeAllAlerts(String nurseId) {
-        List<AlertLog> unacknowledgedAlerts = getAllUnacknowledgedAlerts();
-        for (AlertLog alert : unacknowledgedAlerts) {
-            alert.acknowledge(nurseId);
+    public AlertAcknowledgeResult acknowledgeAllAlerts(String nurseId) {
+        return acknowledgeAlerts(nurseId, null, null, null);
+    }
+
+    /**
+     * 미확인 알림 일괄 확인 (엔티티를 로드하지 않고 벌크 UPDATE)
+     * - 병동/세션/심각도는 선택 조건 (null이면 전체)
+     * - 대상 ID를 FOR UPDATE로 먼저 잠가 두므로 동시에 확인된 알림이 결과에 섞이지 않음
+     */
+    @Transactional
+    public AlertAcknowledgeResult acknowledgeAlerts(String nurseId, String wardId, Integer sessionId, String severity) {
+        AlertLog.Severity sev = severity != null ? AlertLog.Severity.valueOf(severity.toLowerCase()) : null;
+        LocalDateTime acknowledgedAt = LocalDateTime.now();
+
+        List<Integer> alertIds = alertLogRepository.findUnacknowledgedIdsForUpdate(wardId, sessionId, sev);
+        int count = 0;
+        for (int from = 0; from < alertIds.size(); from += ACKNOWLEDGE_CHUNK_SIZE) {
+            List<Integer> chunk = alertIds.subList(from, Math.min(from + ACKNOWLEDGE_CHUNK_SIZE, alertIds.size()));
+            count += alertLogRepository.acknowledgeByIds(chunk, nurseId, acknowledgedAt);
+        }
+
+        if (!alertIds.isEmpty()) {
+            eventPublisher.publishEvent(new AlertsAcknowledgedEvent(alertIds));
         }
-        alertLogRepository.saveAll(unacknowledgedAlerts);
+        return new AlertAcknowledgeResult(count, alertIds, nurseId, acknowledgedAt);
     }
 
     // System alerts
@@ -117,4 +160,8 @@ public class AlertLogService {
 
         return alertLogRepository.save(alert);
     }
-}
\ No newline at end of file
+
+    private static List<AlertLog> toAlertLogs(List<AlertView> alerts) {
+        return alerts.stream().map(AlertView::toAlertLog).toList();
+    }
+}
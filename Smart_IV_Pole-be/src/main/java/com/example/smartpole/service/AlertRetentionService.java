@@ -0,0 +1,129 @@
+package com.example.smartpole.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * alert_logs 보존 기간 관리
+ * - 보존 기간이 지난 확인 완료 알림을 alert_logs_archive(압축 테이블)로 옮기고 원본 삭제 (배치 단위 트랜잭션)
+ * - alert_logs가 월 파티션 테이블이면 앞으로 쓸 월 파티션을 미리 생성 (DB/v2_alert_logs_partitioning.sql 참고)
+ */
+@Slf4j
+@Service
+public class AlertRetentionService {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final int MONTHS_AHEAD = 2;
+
+    private static final String ARCHIVE_COLUMNS =
+            "alert_id, session_id, alert_type, severity, message, acknowledged, acknowledged_by, acknowledged_at, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int batchSize;
+    private final Resource archiveTableScript;
+
+    public AlertRetentionService(JdbcTemplate jdbcTemplate,
+                                 NamedParameterJdbcTemplate namedJdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${alert.retention.days:90}") int retentionDays,
+                                 @Value("${alert.retention.batch-size:5000}") int batchSize,
+                                 @Value("classpath:db/alert_logs_archive.sql") Resource archiveTableScript) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.archiveTableScript = archiveTableScript;
+    }
+
+    /**
+     * 보존 기간이 지난 확인 완료 알림 아카이브
+     * @return 아카이브된 알림 수
+     */
+    public int archiveAcknowledgedAlerts() {
+        ensureArchiveTable();
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int archived = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Integer> alertIds = jdbcTemplate.queryForList(
+                "SELECT alert_id FROM alert_logs WHERE acknowledged = TRUE AND created_at < ? " +
+                "ORDER BY created_at LIMIT ? FOR UPDATE",
+                Integer.class, cutoff, batchSize);
+        if (alertIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("alertIds", alertIds)
+                .addValue("archivedAt", LocalDateTime.now());
+        namedJdbcTemplate.update(
+                "INSERT IGNORE INTO alert_logs_archive (" + ARCHIVE_COLUMNS + ", archived_at) " +
+                "SELECT " + ARCHIVE_COLUMNS + ", :archivedAt FROM alert_logs WHERE alert_id IN (:alertIds)",
+                params);
+        namedJdbcTemplate.update("DELETE FROM alert_logs WHERE alert_id IN (:alertIds)", params);
+        return alertIds.size();
+    }
+
+    // DDL은 db/alert_logs_archive.sql 한 곳에서만 관리 (CREATE TABLE IF NOT EXISTS)
+    private void ensureArchiveTable() {
+        new ResourceDatabasePopulator(archiveTableScript).execute(jdbcTemplate.getDataSource());
+    }
+
+    /**
+     * 다음 달들의 파티션 미리 생성 (파티션 테이블이 아니면 아무것도 하지 않음)
+     * 미래 월은 pmax에 데이터가 거의 없으므로 REORGANIZE 비용이 작음
+     */
+    public void ensureFuturePartitions() {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'alert_logs' AND PARTITION_NAME IS NOT NULL",
+                String.class);
+        if (partitions.isEmpty() || !partitions.contains("pmax")) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(partitions);
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= MONTHS_AHEAD; i++, month = month.plusMonths(1)) {
+            String name = month.format(PARTITION_NAME);
+            if (existing.contains(name)) {
+                continue;
+            }
+            jdbcTemplate.execute(
+                    "ALTER TABLE alert_logs REORGANIZE PARTITION pmax INTO (" +
+                    "PARTITION " + name + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), " +
+                    "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+            log.info("alert_logs partition {} created", name);
+        }
+    }
+}
@@ -1,35 +1,41 @@
 package com.example.smartpole.service;
 
-import com.example.smartpole.entity.InfusionSession;
+import com.example.smartpole.dto.dashboard.AlertView;
+import com.example.smartpole.dto.dashboard.SessionView;
 import com.example.smartpole.entity.AlertLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 대시보드 조회
+ * DB 대신 LiveDashboardModel의 현재 스냅샷, 미확인 알림 색인, 폴대 통계 카운터에서 계산
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class DashboardService {
 
-    private final InfusionSessionService infusionSessionService;
-    private final AlertLogService alertLogService;
-    private final PoleService poleService;
+    private final LiveDashboardModel dashboardModel;
+    private final UnacknowledgedAlertIndex alertIndex;
+    private final PoleFleetStatistics fleetStatistics;
 
     public Map<String, Object> getDashboardData() {
+        LiveDashboardModel.DashboardSnapshot snapshot = dashboardModel.getSnapshot();
         Map<String, Object> dashboardData = new HashMap<>();
 
         // Active sessions
-        List<InfusionSession> activeSessions = infusionSessionService.getAllActiveSessions();
+        List<SessionView> activeSessions = sortedActiveSessions(snapshot);
         dashboardData.put("activeSessions", activeSessions);
         dashboardData.put("activeSessionCount", activeSessions.size());
 
         // Sessions by status
-        List<InfusionSession> criticalSessions = infusionSessionService.getCriticalSessions();
-        List<InfusionSession> warningSessions = infusionSessionService.getWarningSessions();
+        List<SessionView> criticalSessions = activeSessions.stream().filter(SessionView::isCritical).toList();
+        List<SessionView> warningSessions = activeSessions.stream().filter(SessionView::isWarning).toList();
 
         dashboardData.put("criticalSessions", criticalSessions);
         dashboardData.put("warningSessions", warningSessions);
@@ -41,8 +47,8 @@ public class DashboardService {
         dashboardData.put("normalCount", normalCount);
 
         // Alert data
-        List<AlertLog> unacknowledgedAlerts = alertLogService.getAllUnacknowledgedAlerts();
-        List<AlertLog> criticalAlerts = alertLogService.getCriticalUnacknowledgedAlerts();
+        List<AlertView> unacknowledgedAlerts = alertIndex.getAll();
+        List<AlertView> criticalAlerts = alertIndex.getBySeverity(AlertLog.Severity.critical);
 
         dashboardData.put("unacknowledgedAlerts", unacknowledgedAlerts);
         dashboardData.put("criticalAlerts", criticalAlerts);
@@ -50,18 +56,12 @@ public class DashboardService {
         dashboardData.put("criticalAlertsCount", criticalAlerts.size());
 
         // Alert counts by severity
-        Long infoAlerts = alertLogService.countUnacknowledgedBySeverity(AlertLog.Severity.info);
-        Long warningAlerts = alertLogService.countUnacknowledgedBySeverity(AlertLog.Severity.warning);
-        Long criticalAlertsCount = alertLogService.countUnacknowledgedBySeverity(AlertLog.Severity.critical);
-
         Map<String, Long> alertCounts = new HashMap<>();
-        alertCounts.put("info", infoAlerts);
-        alertCounts.put("warning", warningAlerts);
-        alertCounts.put("critical", criticalAlertsCount);
+        alertIndex.countBySeverity().forEach((severity, count) -> alertCounts.put(severity.name(), count.longValue()));
         dashboardData.put("alertCounts", alertCounts);
 
         // Pole statistics
-        Long activePoles = poleService.countActivePoles();
+        Long activePoles = (long) fleetStatistics.getActiveCount();
         dashboardData.put("activePolesCount", activePoles);
 
         // System status
@@ -80,13 +80,13 @@ public class DashboardService {
         Map<String, Object> wardData = new HashMap<>();
 
         // Get all active sessions for ward view
-        List<InfusionSession> activeSessions = infusionSessionService.getAllActiveSessions();
+        List<SessionView> activeSessions = sortedActiveSessions(dashboardModel.getSnapshot());
 
         // Group sessions by status for color coding
         Map<String, Object> sessionsByStatus = new HashMap<>();
         int normalCount = 0, warningCount = 0, criticalCount = 0, inactiveCount = 0;
 
-        for (InfusionSession session : activeSessions) {
+        for (SessionView session : activeSessions) {
             double completionPercentage = session.getCompletionPercentage();
             if (completionPercentage >= 95) { // Critical: <5% remaining
                 criticalCount++;
@@ -107,4 +107,10 @@ public class DashboardService {
 
         return wardData;
     }
-}
\ No newline at end of file
+
+    private static List<SessionView> sortedActiveSessions(LiveDashboardModel.DashboardSnapshot snapshot) {
+        List<SessionView> activeSessions = new ArrayList<>(snapshot.getActiveSessions().values());
+        activeSessions.sort(Comparator.comparing(SessionView::getStartTime, Comparator.nullsLast(Comparator.naturalOrder())));
+        return activeSessions;
+    }
+}
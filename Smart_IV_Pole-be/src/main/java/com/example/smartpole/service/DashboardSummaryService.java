@@ -0,0 +1,58 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.dto.dashboard.AlertSeverityCount;
+import com.example.smartpole.dto.dashboard.DashboardSummaryDTO;
+import com.example.smartpole.dto.dashboard.SessionCounts;
+import com.example.smartpole.entity.AlertLog;
+import com.example.smartpole.repository.AlertLogRepository;
+import com.example.smartpole.repository.InfusionSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 대시보드 요약 집계
+ * 세션/폴대 집계 1회 + 알림 심각도별 GROUP BY 1회 → 데이터 양과 무관하게 SQL 2회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardSummaryService {
+
+    private final InfusionSessionRepository infusionSessionRepository;
+    private final AlertLogRepository alertLogRepository;
+
+    public DashboardSummaryDTO getDashboardSummary() {
+        SessionCounts sessionCounts = infusionSessionRepository.countActiveSessionsForDashboard();
+
+        Map<String, Long> alertCounts = new LinkedHashMap<>();
+        for (AlertLog.Severity severity : AlertLog.Severity.values()) {
+            alertCounts.put(severity.name(), 0L);
+        }
+        long totalAlerts = 0;
+        for (AlertSeverityCount count : alertLogRepository.countUnacknowledgedGroupBySeverity()) {
+            alertCounts.put(count.getSeverity().name(), count.getAlertCount());
+            totalAlerts += count.getAlertCount();
+        }
+
+        long activeCount = sessionCounts.getActiveCount();
+        long criticalCount = sessionCounts.getCriticalCount();
+        long warningCount = sessionCounts.getWarningCount();
+        long criticalAlerts = alertCounts.get(AlertLog.Severity.critical.name());
+
+        return DashboardSummaryDTO.builder()
+                .activeSessionCount(activeCount)
+                .criticalCount(criticalCount)
+                .warningCount(warningCount)
+                .normalCount(activeCount - criticalCount - warningCount)
+                .activePolesCount(sessionCounts.getActivePoleCount())
+                .alertCounts(alertCounts)
+                .totalAlertsCount(totalAlerts)
+                .criticalAlertsCount(criticalAlerts)
+                .systemStatus(criticalAlerts > 0 ? "critical" : totalAlerts > 0 ? "warning" : "normal")
+                .build();
+    }
+}
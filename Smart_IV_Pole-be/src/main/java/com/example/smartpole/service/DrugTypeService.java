@@ -15,11 +15,14 @@ import java.util.Optional;
 public class DrugTypeService {
 
     private final DrugTypeRepository drugTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     // CREATE
     public DrugType createDrugType(DrugType drugTypeEntity) {
         log.debug("Creating new drug type: {}", drugTypeEntity.getDripName());
-        return drugTypeRepository.save(drugTypeEntity);
+        DrugType saved = drugTypeRepository.save(drugTypeEntity);
+        referenceDataCache.evict(DrugType.class, saved.getDripId());
+        return saved;
     }
 
     // READ (all)
@@ -36,13 +39,15 @@ public class DrugTypeService {
 
     public DrugType saveDrugType(DrugType drugTypeEntity) {
         log.debug("Saving drug type: {}", drugTypeEntity.getDripName());
-        return drugTypeRepository.save(drugTypeEntity);
+        DrugType saved = drugTypeRepository.save(drugTypeEntity);
+        referenceDataCache.evict(DrugType.class, saved.getDripId());
+        return saved;
     }
 
     // UPDATE
     public DrugType updateDrugType(Integer id, DrugType drugTypeEntity) {
         log.debug("Updating drug type with id: {}", id);
-        return drugTypeRepository.findById(id)
+        DrugType updated = drugTypeRepository.findById(id)
                 .map(existingDrugType -> {
                     if (drugTypeEntity.getDripName() != null) {
                         existingDrugType.setDripName(drugTypeEntity.getDripName());
@@ -50,12 +55,15 @@ public class DrugTypeService {
                     return drugTypeRepository.save(existingDrugType);
                 })
                 .orElseThrow(() -> new RuntimeException("DrugType not found with id: " + id));
+        referenceDataCache.evict(DrugType.class, id);
+        return updated;
     }
 
     // DELETE
     public void deleteDrugType(Integer id) {
         log.debug("Deleting drug type with id: {}", id);
         drugTypeRepository.deleteById(id);
+        referenceDataCache.evict(DrugType.class, id);
     }
 
     public boolean existsById(Integer id) {
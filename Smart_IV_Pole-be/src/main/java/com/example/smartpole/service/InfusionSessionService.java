@@ -1,9 +1,16 @@
 package com.example.smartpole.service;
 
+import com.example.smartpole.dto.CursorPage;
+import com.example.smartpole.dto.dashboard.SessionView;
+import com.example.smartpole.dto.view.InfusionSessionSummary;
 import com.example.smartpole.entity.InfusionSession;
 import com.example.smartpole.entity.Pole;
+import com.example.smartpole.event.InfusionSessionChangedEvent;
 import com.example.smartpole.repository.InfusionSessionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,9 +26,44 @@ public class InfusionSessionService {
     private final InfusionSessionRepository infusionSessionRepository;
     private final AlertLogService alertLogService;
     private final PoleService poleService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<InfusionSession> getAllSessions() {
-        return infusionSessionRepository.findAll();
+    /**
+     * remaining_pct 컬럼 추가 이전에 저장된 세션 보정 (이후 저장분은 엔티티에서 자동 계산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillRemainingPct() {
+        int updated = infusionSessionRepository.backfillRemainingPct();
+        if (updated > 0) {
+            System.out.println("[INFO] remaining_pct backfilled for " + updated + " infusion sessions");
+        }
+    }
+
+    /**
+     * volume_band 컬럼 추가 이전에 저장된 부족/위험 세션 보정 (기본값 0으로 추가되어 첫 샘플에서 알림이 중복 생성되지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillVolumeBand() {
+        int updated = infusionSessionRepository.backfillVolumeBand();
+        if (updated > 0) {
+            System.out.println("[INFO] volume_band backfilled for " + updated + " infusion sessions");
+        }
+    }
+
+    // 목록 조회는 읽기 모델로 반환 (엔티티 로드/변경 감지 없이 필요한 컬럼만 조회)
+    public List<InfusionSessionSummary> getAllSessions() {
+        return infusionSessionRepository.findAllSummaries();
+    }
+
+    /**
+     * 세션 이력 (커서 기반, 최신순)
+     */
+    public CursorPage<InfusionSessionSummary> getSessionPage(String cursor, Integer size) {
+        return CursorPage.fetch(cursor, size,
+                infusionSessionRepository::findPageFirst, infusionSessionRepository::findPageAfter,
+                InfusionSessionSummary::startTime, InfusionSessionSummary::sessionId);
     }
 
     @Transactional
@@ -31,8 +73,8 @@ public class InfusionSessionService {
         return infusionSessionRepository.save(session);
     }
 
-    public List<InfusionSession> getAllActiveSessions() {
-        return infusionSessionRepository.findAllActiveSessions();
+    public List<InfusionSessionSummary> getAllActiveSessions() {
+        return infusionSessionRepository.findActiveSummaries();
     }
 
     public Optional<InfusionSession> getSessionById(Integer id) {
@@ -47,8 +89,8 @@ public class InfusionSessionService {
         return infusionSessionRepository.findByIvPoleIdAndStatus(poleId, InfusionSession.SessionStatus.ACTIVE);
     }
 
-    public List<InfusionSession> getSessionsByPatient(Integer patientId) {
-        return infusionSessionRepository.findByPatientId(patientId);
+    public List<InfusionSessionSummary> getSessionsByPatient(Integer patientId) {
+        return infusionSessionRepository.findSummariesByPatientId(patientId);
     }
 
     // Dashboard queries
@@ -110,36 +152,62 @@ public class InfusionSessionService {
     }
 
     @Transactional
-    public InfusionSession updateRemainingVolume(Integer sessionId, Integer remainingVolume) {
+    public Optional<InfusionSession> updateRemainingVolume(Integer sessionId, Integer remainingVolume) {
         InfusionSession session = infusionSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("Session not found with id: " + sessionId));
+        return updateRemainingVolume(session, remainingVolume, null);
+    }
 
-        int previousVolume = session.getRemainingVolume();
-        session.setRemainingVolume(remainingVolume);
+    /**
+     * 센서 잔량 반영 (ESP 수집 경로, 호출 측이 이미 조회한 세션 사용 → 추가 SELECT 없음)
+     * - 엔티티 저장 대신 잔량 컬럼만 갱신하는 조건부 UPDATE → 간호사의 일시정지/종료와 경합하지 않음
+     * - 잔량 구간이 나빠지는 경우는 volume_band 조건으로 판정 → 동시에 들어온 샘플 중 하나만 알림 생성
+     * @param session 갱신 대상 세션 (준영속, 응답/이벤트용 값이 갱신됨)
+     * @return 갱신된 세션, 세션이 더 이상 ACTIVE가 아니면 empty
+     */
+    @Transactional
+    public Optional<InfusionSession> updateRemainingVolume(InfusionSession session, Integer remainingVolume,
+                                                           LocalDateTime endExpTime) {
+        Integer sessionId = session.getSessionId();
+        int band = InfusionSession.volumeBandOf(remainingVolume, session.getTotalVolumeMl());
+
+        // ACTIVE가 아니면 첫 UPDATE에서 0건 → 추가 UPDATE 없이 종료
+        if (infusionSessionRepository.updateIngestedVolume(sessionId, remainingVolume, endExpTime, band) == 0) {
+            return Optional.empty();
+        }
+        // 조회 시점보다 나쁜 구간일 때만 구간 상승 시도 → 동시에 들어온 샘플 중 하나만 성공
+        boolean escalated = band > session.getVolumeBand()
+                && infusionSessionRepository.escalateVolumeBand(sessionId, band) == 1;
 
-        // Check for low volume alerts
-        if (session.isLowVolume() && !session.isCriticalVolume()) {
-            // Generate low volume alert if this is a new low volume state
-            if (previousVolume > remainingVolume && (previousVolume * 100.0 / session.getTotalVolumeMl()) > 10) {
-                alertLogService.createAlert(sessionId, "low_volume", "warning",
-                    "IV fluid level is low (" + session.getCompletionPercentage() + "% remaining)");
-            }
-        } else if (session.isCriticalVolume()) {
-            // Generate critical alert
-            if (previousVolume > remainingVolume && (previousVolume * 100.0 / session.getTotalVolumeMl()) > 5) {
-                alertLogService.createAlert(sessionId, "low_volume", "critical",
-                    "IV fluid critically low (" + session.getCompletionPercentage() + "% remaining)");
-            }
+        session.setStatus(InfusionSession.SessionStatus.ACTIVE);
+        session.setRemainingVolume(remainingVolume);
+        if (endExpTime != null) {
+            session.setEndExpTime(endExpTime);
+        }
+        session.updateVolumeDerivedFields();
+
+        if (escalated && band == InfusionSession.VOLUME_BAND_CRITICAL) {
+            alertLogService.createAlert(sessionId, "low_volume", "critical",
+                "IV fluid critically low (" + session.getCompletionPercentage() + "% remaining)");
+        } else if (escalated && band == InfusionSession.VOLUME_BAND_LOW) {
+            alertLogService.createAlert(sessionId, "low_volume", "warning",
+                "IV fluid level is low (" + session.getCompletionPercentage() + "% remaining)");
         }
 
-        return infusionSessionRepository.save(session);
+        // 벌크 UPDATE는 엔티티 콜백이 호출되지 않으므로 직접 발행
+        eventPublisher.publishEvent(new InfusionSessionChangedEvent(SessionView.from(session), false));
+        return Optional.of(session);
     }
 
+    // 간호사 조작은 @Version으로 보호 - 동시에 다른 조작이 먼저 커밋되면 ObjectOptimisticLockingFailureException
     @Transactional
     public InfusionSession pauseInfusion(Integer sessionId) {
         InfusionSession session = infusionSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("Session not found with id: " + sessionId));
 
+        if (session.getStatus() != InfusionSession.SessionStatus.ACTIVE) {
+            throw new IllegalStateException("Cannot pause session with status: " + session.getStatus());
+        }
         session.setStatus(InfusionSession.SessionStatus.PAUSED);
         return infusionSessionRepository.save(session);
     }
@@ -149,6 +217,9 @@ public class InfusionSessionService {
         InfusionSession session = infusionSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("Session not found with id: " + sessionId));
 
+        if (session.getStatus() != InfusionSession.SessionStatus.PAUSED) {
+            throw new IllegalStateException("Cannot resume session with status: " + session.getStatus());
+        }
         session.setStatus(InfusionSession.SessionStatus.ACTIVE);
         return infusionSessionRepository.save(session);
     }
@@ -158,6 +229,9 @@ public class InfusionSessionService {
         InfusionSession session = infusionSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new RuntimeException("Session not found with id: " + sessionId));
 
+        if (session.getStatus() == InfusionSession.SessionStatus.ENDED) {
+            throw new IllegalStateException("Session " + sessionId + " has already ended");
+        }
         session.setStatus(InfusionSession.SessionStatus.ENDED);
         session.setEndTime(LocalDateTime.now());
 
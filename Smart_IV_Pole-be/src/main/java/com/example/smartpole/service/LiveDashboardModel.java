@@ -0,0 +1,144 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.dto.dashboard.RowSignature;
+import com.example.smartpole.dto.dashboard.SessionView;
+import com.example.smartpole.entity.InfusionSession;
+import com.example.smartpole.event.InfusionSessionChangedEvent;
+import com.example.smartpole.repository.InfusionSessionRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대시보드 메모리 모델
+ * - 진행 중 세션을 불변 스냅샷으로 보관 (AtomicReference, copy-on-write)
+ * - 세션 저장 이벤트를 커밋 이후에 반영 → 조회는 락 없이 현재 스냅샷만 읽음
+ * - DB와의 비교는 노드마다 실행 (모델이 노드별 메모리라 리더만 확인해서는 맞출 수 없음)
+ *   1분마다 집계 쿼리 한 번(세션 수 + ID 합 + 잔량 합)으로 확인하고, 달라졌을 때만 세션 전체를 다시 조회
+ *   (다른 노드에서 발생한 변경, 벌크 UPDATE 등)
+ * - 미확인 알림은 UnacknowledgedAlertIndex가 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveDashboardModel {
+
+    private final InfusionSessionRepository infusionSessionRepository;
+
+    private final AtomicReference<DashboardSnapshot> snapshot = new AtomicReference<>(DashboardSnapshot.EMPTY);
+
+    /**
+     * 현재 스냅샷 (불변, 락 없음)
+     */
+    public DashboardSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSessionChanged(InfusionSessionChangedEvent event) {
+        SessionView session = event.getSession();
+        DashboardSnapshot current = snapshot.get();
+
+        Map<Integer, SessionView> activeSessions = new LinkedHashMap<>(current.getActiveSessions());
+        if (event.isRemoved() || session.getStatus() != InfusionSession.SessionStatus.ACTIVE) {
+            if (activeSessions.remove(session.getSessionId()) == null) {
+                return;
+            }
+        } else {
+            activeSessions.put(session.getSessionId(), session);
+        }
+
+        snapshot.set(new DashboardSnapshot(current.getVersion() + 1, activeSessions));
+    }
+
+    /**
+     * 1분마다 DB 집계와 메모리 모델 비교 → 다를 때만 전체 비교/교체
+     */
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public void checkForChanges() {
+        RowSignature signature = infusionSessionRepository.findActiveSessionSignature();
+        Map<Integer, SessionView> sessions = snapshot.get().getActiveSessions();
+        long idSum = 0;
+        long volumeSum = 0;
+        for (SessionView session : sessions.values()) {
+            idSum += session.getSessionId();
+            volumeSum += session.getRemainingVolume() != null ? session.getRemainingVolume() : 0;
+        }
+        if (signature.getRowCount() != sessions.size() || signature.getIdSum() != idSum
+                || signature.getValueSum() != volumeSum) {
+            reconcile();
+        }
+    }
+
+    /**
+     * DB 기준으로 모델 검증/교체 (기동 시 + 집계가 달라졌을 때)
+     * 조회 중 이벤트가 반영됐다면 이번 결과는 버리고 다음 주기에 다시 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        DashboardSnapshot before = snapshot.get();
+
+        Map<Integer, SessionView> activeSessions = new LinkedHashMap<>();
+        for (InfusionSession session : infusionSessionRepository.findAllActiveSessions()) {
+            activeSessions.put(session.getSessionId(), SessionView.from(session));
+        }
+        if (sameSessions(activeSessions, before.getActiveSessions())) {
+            return;
+        }
+
+        synchronized (this) {
+            if (snapshot.get() != before) {
+                return;
+            }
+            if (before != DashboardSnapshot.EMPTY) {
+                log.warn("Dashboard model out of sync with database (sessions {} -> {}), replacing",
+                        before.getActiveSessions().size(), activeSessions.size());
+            }
+            snapshot.set(new DashboardSnapshot(before.getVersion() + 1, activeSessions));
+        }
+    }
+
+    /**
+     * 세션 ID와 잔량만 비교 (시각 정밀도, BigDecimal 스케일 등 DB 왕복 차이는 무시)
+     */
+    private static boolean sameSessions(Map<Integer, SessionView> loaded, Map<Integer, SessionView> current) {
+        if (!loaded.keySet().equals(current.keySet())) {
+            return false;
+        }
+        for (SessionView session : loaded.values()) {
+            if (!Objects.equals(session.getRemainingVolume(), current.get(session.getSessionId()).getRemainingVolume())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 대시보드 불변 스냅샷
+     */
+    @Getter
+    public static final class DashboardSnapshot {
+
+        static final DashboardSnapshot EMPTY = new DashboardSnapshot(0, new HashMap<>());
+
+        private final long version;
+        private final Map<Integer, SessionView> activeSessions;
+
+        DashboardSnapshot(long version, Map<Integer, SessionView> activeSessions) {
+            this.version = version;
+            this.activeSessions = Collections.unmodifiableMap(activeSessions);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.smartpole.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(정규화한 전화번호)별 로그인 시도 제한 - 토큰 버킷 (최대 burst회 연속, 이후 분당 perMinute회)
+ * - 버킷 상태를 "버킷이 다시 가득 차는 시각" 하나로 표현 (GCRA) → AtomicLong CAS만으로 갱신, 락 없음
+ * - 가득 찬 버킷은 기본값과 같으므로 1분마다 맵에서 제거 (맵 크기 = 최근 시도한 번호 수)
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public LoginRateLimiter(@Value("${mobile.login.rate-limit.burst:5}") int burst,
+                            @Value("${mobile.login.rate-limit.per-minute:10}") int perMinute) {
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+        this.burstNanos = intervalNanos * burst;
+    }
+
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    boolean tryAcquire(String key, long now) {
+        AtomicLong fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = fullAt.get();
+            // 토큰 하나 사용 = 가득 차는 시각을 interval만큼 뒤로 (비어 있던 버킷이면 현재 기준)
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public void evictFullBuckets() {
+        evictFullBuckets(System.nanoTime());
+    }
+
+    void evictFullBuckets(long now) {
+        // 제거와 동시에 들어온 시도는 버려진 버킷에 기록될 수 있음 (번호당 최대 1회 추가 허용, 락을 두지 않는 대가)
+        buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+    }
+}
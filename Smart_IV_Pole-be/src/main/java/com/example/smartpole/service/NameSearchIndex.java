@@ -0,0 +1,152 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.dto.view.PatientSummary;
+import com.example.smartpole.entity.Nurse;
+import com.example.smartpole.entity.Patient;
+import com.example.smartpole.repository.NurseRepository;
+import com.example.smartpole.repository.PatientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 환자(이름/전화번호), 간호사(이름) 검색 색인
+ * - 저장/수정/삭제 시 서비스에서 바로 반영, 다른 노드의 변경은 5분마다 DB 기준 재구성으로 맞춤
+ * - 기동 직후 색인이 만들어지기 전에는 Optional.empty() → 호출 측이 DB LIKE 검색으로 대체
+ * - 재구성 중 들어온 변경은 기록해 두었다가 새 색인에 다시 적용한 뒤 교체 (DB 조회 이후의 변경 유실 방지)
+ * - 롤백된 저장이 색인에 남아도 결과는 DB에서 다시 조회하므로 없는 행은 빠짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NameSearchIndex {
+
+    private final PatientRepository patientRepository;
+    private final NurseRepository nurseRepository;
+
+    private volatile NgramIndex patients;
+    private volatile NgramIndex nurses;
+
+    // 재구성 중 들어온 변경 (재구성 중이 아니면 null), 변경 적용/기록/교체는 this로 동기화
+    private List<Consumer<NgramIndex>> pendingPatientChanges;
+    private List<Consumer<NgramIndex>> pendingNurseChanges;
+
+    public Optional<List<Integer>> searchPatients(String keyword) {
+        NgramIndex index = patients;
+        return index == null ? Optional.empty() : Optional.of(index.search(keyword));
+    }
+
+    public Optional<List<Integer>> searchNurses(String keyword) {
+        NgramIndex index = nurses;
+        return index == null ? Optional.empty() : Optional.of(index.search(keyword));
+    }
+
+    public void indexPatient(Patient patient) {
+        Integer patientId = patient.getPatientId();
+        String name = patient.getName();
+        String phone = patient.getPhone();
+        changePatients(index -> index.put(patientId, name, phone));
+    }
+
+    public void removePatient(Integer patientId) {
+        changePatients(index -> index.remove(patientId));
+    }
+
+    public void indexNurse(Nurse nurse) {
+        Integer nurseId = nurse.getNurseId();
+        String name = nurse.getName();
+        changeNurses(index -> index.put(nurseId, name));
+    }
+
+    public void removeNurse(Integer nurseId) {
+        changeNurses(index -> index.remove(nurseId));
+    }
+
+    private synchronized void changePatients(Consumer<NgramIndex> change) {
+        if (pendingPatientChanges != null) {
+            pendingPatientChanges.add(change);
+        }
+        if (patients != null) {
+            change.accept(patients);
+        }
+    }
+
+    private synchronized void changeNurses(Consumer<NgramIndex> change) {
+        if (pendingNurseChanges != null) {
+            pendingNurseChanges.add(change);
+        }
+        if (nurses != null) {
+            change.accept(nurses);
+        }
+    }
+
+    /**
+     * DB 기준으로 색인 재구성 (기동 시 + 5분마다, 완성된 색인으로 통째로 교체)
+     * DB 조회 전부터 변경 기록을 시작 → 조회 결과에 빠졌을 수 있는 변경을 교체 직전에 다시 적용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRate = 300000, initialDelay = 300000)
+    public void rebuild() {
+        synchronized (this) {
+            pendingPatientChanges = new ArrayList<>();
+            pendingNurseChanges = new ArrayList<>();
+        }
+        try {
+            rebuildFromDatabase();
+        } finally {
+            synchronized (this) {
+                pendingPatientChanges = null;
+                pendingNurseChanges = null;
+            }
+        }
+    }
+
+    private void rebuildFromDatabase() {
+        NgramIndex patientIndex = new NgramIndex();
+        for (PatientSummary patient : patientRepository.findAllSummaries()) {
+            patientIndex.put(patient.patientId(), patient.name(), patient.phone());
+        }
+        NgramIndex nurseIndex = new NgramIndex();
+        for (Nurse nurse : nurseRepository.findAll()) {
+            nurseIndex.put(nurse.getNurseId(), nurse.getName());
+        }
+        synchronized (this) {
+            // 조회 이전에 반영된 변경이 다시 적용될 수도 있지만 put/remove는 같은 결과
+            pendingPatientChanges.forEach(change -> change.accept(patientIndex));
+            pendingNurseChanges.forEach(change -> change.accept(nurseIndex));
+            patients = patientIndex;
+            nurses = nurseIndex;
+        }
+        log.debug("Name search index rebuilt: {} patients, {} nurses", patientIndex.size(), nurseIndex.size());
+    }
+
+    /**
+     * DB에서 다시 조회한 행을 색인 순위대로 정렬 (DB에 없는 ID는 제외)
+     */
+    public static <T> List<T> inRankOrder(List<Integer> ids, Collection<T> rows, Function<T, Integer> idOf) {
+        Map<Integer, T> byId = new HashMap<>();
+        for (T row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+        List<T> ordered = new ArrayList<>(byId.size());
+        for (Integer id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.smartpole.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부분 문자열 검색용 메모리 n-gram 색인 (이름/전화번호)
+ * - 정규화한 문자열의 1~3글자 조각마다 ID 목록을 둠 → 3글자 이하 검색어는 조회 한 번, 긴 검색어는 3-gram 교집합 후 확인
+ * - 한글은 음절 단위로 자르고, 초성 문자열도 함께 색인해 "ㄱㅁㅅ" 같은 초성 검색 지원
+ * - 공백과 '-'는 무시 (010-1234-5678 ↔ 01012345678)
+ * - 결과 순서: 완전 일치 → 앞부분 일치 → 부분 일치, 같은 단계에서는 짧은 문자열 → ID
+ */
+public class NgramIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+    private final Map<Integer, List<String>> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * ID의 색인 문자열 교체 (null/빈 문자열은 제외)
+     */
+    public void put(Integer id, String... texts) {
+        List<String> keys = new ArrayList<>();
+        for (String text : texts) {
+            String key = normalize(text);
+            if (key.isEmpty()) {
+                continue;
+            }
+            keys.add(key);
+            String choseong = choseong(key);
+            if (!choseong.equals(key)) {
+                keys.add(choseong);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+            if (keys.isEmpty()) {
+                return;
+            }
+            documents.put(id, keys);
+            for (String key : keys) {
+                for (String gram : grams(key)) {
+                    postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 부분 문자열로 포함하는 ID (순위순)
+     */
+    public List<Integer> search(String query) {
+        String q = normalize(query);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+
+        List<Ranked> ranked = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Integer id : candidates(q)) {
+                long best = Long.MAX_VALUE;
+                for (String key : documents.get(id)) {
+                    best = Math.min(best, rank(key, q));
+                }
+                if (best != Long.MAX_VALUE) {
+                    ranked.add(new Ranked(id, best));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        ranked.sort(Comparator.comparingLong(Ranked::score).thenComparing(Ranked::id));
+        List<Integer> ids = new ArrayList<>(ranked.size());
+        for (Ranked r : ranked) {
+            ids.add(r.id());
+        }
+        return ids;
+    }
+
+    private Set<Integer> candidates(String q) {
+        if (q.length() <= MAX_GRAM) {
+            return postings.getOrDefault(q, Set.of());
+        }
+        // 가장 짧은 목록부터 교집합 (빈 결과면 바로 종료)
+        List<Set<Integer>> lists = new ArrayList<>();
+        for (int i = 0; i + MAX_GRAM <= q.length(); i++) {
+            Set<Integer> ids = postings.get(q.substring(i, i + MAX_GRAM));
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Integer> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void unindex(Integer id) {
+        List<String> keys = documents.remove(id);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            for (String gram : grams(key)) {
+                Set<Integer> ids = postings.get(gram);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // 일치하지 않으면 Long.MAX_VALUE (3-gram 교집합 후보는 순서가 다를 수 있어 직접 확인)
+    private static long rank(String key, String q) {
+        int position = key.indexOf(q);
+        if (position < 0) {
+            return Long.MAX_VALUE;
+        }
+        int matchType = key.length() == q.length() ? 0 : position == 0 ? 1 : 2;
+        return (long) matchType << 32 | key.length();
+    }
+
+    private static Set<String> grams(String key) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= key.length(); i++) {
+                grams.add(key.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c) && c != '-') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열 (그 외 문자는 그대로)
+     */
+    static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                sb.append(CHOSEONG.charAt((c - HANGUL_FIRST) / SYLLABLES_PER_CHOSEONG));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private record Ranked(Integer id, long score) {
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Optional;
 public class NurseService {
 
     private final NurseRepository nurseRepository;
+    private final NameSearchIndex nameSearchIndex;
 
     public List<Nurse> getAllNurses() {
         log.debug("Fetching all nurses");
@@ -33,7 +34,9 @@ public class NurseService {
 
     public Nurse saveNurse(Nurse nurse) {
         log.debug("Saving nurse: {}", nurse.getName());
-        return nurseRepository.save(nurse);
+        Nurse saved = nurseRepository.save(nurse);
+        nameSearchIndex.indexNurse(saved);
+        return saved;
     }
 
     public Nurse updateNurse(Integer id, Nurse nurse) {
@@ -52,7 +55,9 @@ public class NurseService {
                     if (nurse.getRole() != null) {
                         existingNurse.setRole(nurse.getRole());
                     }
-                    return nurseRepository.save(existingNurse);
+                    Nurse saved = nurseRepository.save(existingNurse);
+                    nameSearchIndex.indexNurse(saved);
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Nurse not found with id: " + id));
     }
@@ -60,6 +65,7 @@ public class NurseService {
     public void deleteNurse(Integer id) {
         log.debug("Deleting nurse with id: {}", id);
         nurseRepository.deleteById(id);
+        nameSearchIndex.removeNurse(id);
     }
 
     public boolean existsById(Integer id) {
@@ -75,7 +81,15 @@ public class NurseService {
         if (name == null || name.trim().isEmpty()) {
             return getAllNurses();
         }
-        return nurseRepository.findByNameContainingIgnoreCase(name);
+        Optional<List<Integer>> ids = nameSearchIndex.searchNurses(name.trim());
+        if (ids.isEmpty()) {
+            return nurseRepository.findByNameContainingIgnoreCase(name);
+        }
+        if (ids.get().isEmpty()) {
+            return List.of();
+        }
+        // 간호사 엔티티는 2차 캐시 대상이라 ID 조회는 대부분 캐시에서 처리
+        return NameSearchIndex.inRankOrder(ids.get(), nurseRepository.findAllById(ids.get()), Nurse::getNurseId);
     }
 
     public List<Nurse> getNursesByRole(Nurse.NurseRole role) {
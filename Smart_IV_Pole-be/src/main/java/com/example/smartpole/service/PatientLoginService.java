@@ -0,0 +1,155 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.dto.mobile.PatientLoginView;
+import com.example.smartpole.entity.Patient;
+import com.example.smartpole.event.PatientChangedEvent;
+import com.example.smartpole.repository.PatientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 모바일 앱 환자 로그인 조회
+ * - 정규화한 전화번호(phone_normalized 인덱스)로 로그인에 필요한 컬럼만 조회
+ * - 같은 번호의 환자가 여럿이면 PIN이 일치하는 한 명으로 결정, 그래도 구분되지 않으면 IllegalStateException
+ * - 번호별 조회 결과를 최근 사용 순 캐시(크기 제한 + TTL)에 보관 → 재로그인/동시 로그인은 DB 조회 없이 처리
+ * - 환자 저장/삭제 이벤트가 커밋되면 해당 환자의 이전/현재 번호 항목 제거, 다른 노드의 변경은 TTL로 보완
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PatientLoginService {
+
+    private final PatientRepository patientRepository;
+    private final int cacheSize;
+    private final long cacheTtlMillis;
+
+    // 접근 순서 LinkedHashMap (가장 오래 안 쓴 항목부터 제거), 모든 접근은 this로 동기화
+    private final LinkedHashMap<String, CachedLogin> cache;
+    private final Map<Integer, String> phoneByPatient = new HashMap<>();
+
+    public PatientLoginService(PatientRepository patientRepository,
+                               @Value("${mobile.login.cache-size:10000}") int cacheSize,
+                               @Value("${mobile.login.cache-ttl-seconds:300}") long cacheTtlSeconds) {
+        this.patientRepository = patientRepository;
+        this.cacheSize = cacheSize;
+        this.cacheTtlMillis = cacheTtlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 기존 환자 행의 phone_normalized 채우기 (기동 시 1회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillPhoneNormalized() {
+        int updated = patientRepository.backfillPhoneNormalized();
+        if (updated > 0) {
+            log.info("phone_normalized backfilled for {} patients", updated);
+        }
+        long shared = patientRepository.countSharedPhoneNormalized();
+        if (shared > 0) {
+            log.info("{} phone numbers are shared by several patients, login picks among them by PIN", shared);
+        }
+    }
+
+    /**
+     * 전화번호(+ 같은 번호가 여럿일 때 구분용 PIN)로 로그인 대상 환자 조회
+     * @throws IllegalStateException 같은 번호의 환자 중 PIN으로도 한 명을 정할 수 없는 경우
+     */
+    public Optional<PatientLoginView> findByPhone(String phone, String pinCode) {
+        List<PatientLoginView> matches = findAllByPhone(phone);
+        if (matches.size() <= 1) {
+            return matches.stream().findFirst();
+        }
+        List<PatientLoginView> byPin = matches.stream()
+                .filter(view -> pinCode != null && pinCode.equals(view.pinCode()))
+                .toList();
+        if (byPin.size() != 1) {
+            throw new IllegalStateException("Phone number is shared by " + matches.size() + " patients");
+        }
+        return Optional.of(byPin.get(0));
+    }
+
+    private List<PatientLoginView> findAllByPhone(String phone) {
+        String normalized = Patient.normalizePhone(phone);
+        if (normalized == null) {
+            return List.of();
+        }
+
+        List<PatientLoginView> cached = getCached(normalized);
+        if (cached != null) {
+            return cached;
+        }
+        // 없는 번호는 캐시하지 않음 (시도 횟수는 LoginRateLimiter가 제한)
+        List<PatientLoginView> loaded = patientRepository.findLoginViewsByPhoneNormalized(normalized);
+        if (!loaded.isEmpty()) {
+            put(normalized, loaded);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientChanged(PatientChangedEvent event) {
+        evict(event.getPatientId(), event.getPhoneNormalized());
+    }
+
+    private synchronized List<PatientLoginView> getCached(String phone) {
+        CachedLogin cached = cache.get(phone);
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - cached.loadedAt() > cacheTtlMillis) {
+            remove(phone);
+            return null;
+        }
+        return cached.views();
+    }
+
+    private synchronized void put(String phone, List<PatientLoginView> views) {
+        remove(phone);
+        for (PatientLoginView view : views) {
+            String previousPhone = phoneByPatient.put(view.patientId(), phone);
+            if (previousPhone != null && !previousPhone.equals(phone)) {
+                remove(previousPhone);
+            }
+        }
+        cache.put(phone, new CachedLogin(views, System.currentTimeMillis()));
+        if (cache.size() > cacheSize) {
+            remove(cache.keySet().iterator().next());
+        }
+    }
+
+    // 이전 번호(캐시된 항목)와 현재 번호(새로 그 번호를 쓰게 된 경우) 모두 제거
+    private synchronized void evict(Integer patientId, String currentPhone) {
+        String phone = phoneByPatient.get(patientId);
+        if (phone != null) {
+            remove(phone);
+        }
+        if (currentPhone != null) {
+            remove(currentPhone);
+        }
+    }
+
+    private void remove(String phone) {
+        CachedLogin removed = cache.remove(phone);
+        if (removed != null) {
+            for (PatientLoginView view : removed.views()) {
+                phoneByPatient.remove(view.patientId(), phone);
+            }
+        }
+    }
+
+    private record CachedLogin(List<PatientLoginView> views, long loadedAt) {
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.smartpole.service;
 
+import com.example.smartpole.dto.CursorPage;
+import com.example.smartpole.dto.dashboard.SessionView;
+import com.example.smartpole.dto.view.PatientSummary;
+import com.example.smartpole.entity.InfusionSession;
 import com.example.smartpole.entity.Patient;
+import com.example.smartpole.event.AlertsDeletedEvent;
+import com.example.smartpole.event.InfusionSessionChangedEvent;
+import com.example.smartpole.event.PolesUnassignedEvent;
+import com.example.smartpole.repository.AlertLogRepository;
+import com.example.smartpole.repository.InfusionLogRepository;
 import com.example.smartpole.repository.PatientRepository;
 import com.example.smartpole.repository.PrescriptionRepository;
 import com.example.smartpole.repository.InfusionSessionRepository;
 import com.example.smartpole.repository.PoleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,25 +31,49 @@ public class PatientService {
     private final PrescriptionRepository prescriptionRepository;
     private final InfusionSessionRepository infusionSessionRepository;
     private final PoleRepository poleRepository;
+    private final AlertLogRepository alertLogRepository;
+    private final InfusionLogRepository infusionLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NameSearchIndex nameSearchIndex;
+
+    // 목록 조회는 읽기 모델로 반환 (엔티티 로드/변경 감지 없이 필요한 컬럼만 조회)
+    public List<PatientSummary> getAllPatients() {
+        return patientRepository.findAllSummaries();
+    }
 
-    public List<Patient> getAllPatients() {
-        return patientRepository.findAll();
+    /**
+     * 환자 목록 (커서 기반, 최신순)
+     */
+    public CursorPage<PatientSummary> getPatientPage(String cursor, Integer size) {
+        return CursorPage.fetch(cursor, size, patientRepository::findPageFirst, patientRepository::findPageAfter,
+                PatientSummary::createdAt, PatientSummary::patientId);
     }
 
     public Optional<Patient> getPatientById(Integer id) {
         return patientRepository.findById(id);
     }
 
-    public List<Patient> searchPatients(String keyword) {
+    public List<PatientSummary> searchPatients(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return getAllPatients();
         }
-        return patientRepository.findByKeyword(keyword.trim());
+        // 메모리 색인에서 순위순 ID를 찾고 해당 행만 조회 (기동 직후 색인 구성 전에는 DB LIKE 검색)
+        Optional<List<Integer>> ids = nameSearchIndex.searchPatients(keyword.trim());
+        if (ids.isEmpty()) {
+            return patientRepository.findSummariesByKeyword(keyword.trim());
+        }
+        if (ids.get().isEmpty()) {
+            return List.of();
+        }
+        return NameSearchIndex.inRankOrder(ids.get(), patientRepository.findSummariesByIds(ids.get()),
+                PatientSummary::patientId);
     }
 
     @Transactional
     public Patient savePatient(Patient patient) {
-        return patientRepository.save(patient);
+        Patient saved = patientRepository.save(patient);
+        nameSearchIndex.indexPatient(saved);
+        return saved;
     }
 
     @Transactional
@@ -67,28 +101,53 @@ public class PatientService {
             patient.setAddress(patientDetails.getAddress());
         }
 
-        return patientRepository.save(patient);
+        Patient saved = patientRepository.save(patient);
+        nameSearchIndex.indexPatient(saved);
+        return saved;
     }
 
+    /**
+     * 환자와 관련 데이터 삭제 (관련 테이블마다 벌크 DELETE 한 번 → 이력 길이와 무관하게 문장 수 일정)
+     */
     @Transactional
     public void deletePatient(Integer id) {
         // Check if patient exists
-        if (!patientRepository.existsById(id)) {
-            throw new RuntimeException("Patient not found with id: " + id);
-        }
+        Patient patient = patientRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Patient not found with id: " + id));
 
         // Delete all related data in correct order to avoid foreign key constraint violations
         // 0. Clear pole assignments first (poles.patient_id → NULL)
+        List<String> assignedPoleIds = poleRepository.findPoleIdsByPatientId(id);
         poleRepository.clearPatientAssignment(id);
+        if (!assignedPoleIds.isEmpty()) {
+            eventPublisher.publishEvent(new PolesUnassignedEvent(assignedPoleIds));
+        }
+
+        // 벌크 DELETE는 엔티티 콜백이 없으므로 메모리 모델(대시보드, 미확인 알림 색인)에서 뺄 대상을 먼저 조회
+        // ACTIVE 세션이 중복으로 남아 있어도 실패하지 않도록 목록으로 조회
+        List<InfusionSession> activeSessions =
+                infusionSessionRepository.findAllByPatientIdAndStatus(id, InfusionSession.SessionStatus.ACTIVE);
+        List<Integer> unacknowledgedAlertIds = alertLogRepository.findUnacknowledgedIdsByPatientId(id);
+
+        // 1. Delete alerts and infusion logs (reference sessions)
+        alertLogRepository.deleteByPatientId(id);
+        infusionLogRepository.deleteByPatientId(id);
 
-        // 1. Delete IV sessions (references prescriptions)
+        // 2. Delete IV sessions (references prescriptions)
         infusionSessionRepository.deleteByPatientId(id);
 
-        // 2. Delete all prescriptions for this patient
+        // 3. Delete all prescriptions for this patient
         prescriptionRepository.deleteByPatientId(id);
 
-        // 3. Finally delete the patient
-        patientRepository.deleteById(id);
+        // 4. Finally delete the patient
+        patientRepository.delete(patient);
+        nameSearchIndex.removePatient(id);
+
+        activeSessions.forEach(session ->
+                eventPublisher.publishEvent(new InfusionSessionChangedEvent(SessionView.from(session), true)));
+        if (!unacknowledgedAlertIds.isEmpty()) {
+            eventPublisher.publishEvent(new AlertsDeletedEvent(unacknowledgedAlertIds));
+        }
     }
 
     public boolean existsById(Integer id) {
@@ -0,0 +1,226 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.dto.dashboard.PoleFleetCounts;
+import com.example.smartpole.entity.Pole;
+import com.example.smartpole.event.PoleChangedEvent;
+import com.example.smartpole.event.PolesOfflineEvent;
+import com.example.smartpole.event.PolesUnassignedEvent;
+import com.example.smartpole.repository.PoleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 폴대 현황 통계 (증분 유지)
+ * - 폴대별 상태 플래그를 보관하고, 상태가 바뀔 때마다 변화분만 카운터에 반영
+ * - 폴대 저장/삭제 및 벌크 처리 이벤트는 커밋 이후에만 반영 (롤백된 변경은 카운터에 남지 않음)
+ * - 조회는 O(1), 폴대별 상태는 기동 시 한 번만 DB에서 읽음
+ * - 안전장치: 1시간마다 리더 노드만 집계 쿼리 한 번으로 카운터를 점검하고, 어긋난 경우에만 DB 기준으로 다시 맞춤
+ *   (저배터리는 핑 기준 메모리 값이 DB보다 최신이므로 점검에서 제외)
+ * - Micrometer 게이지(smartpole.poles{state=...})로도 노출
+ */
+@Slf4j
+@Component
+public class PoleFleetStatistics {
+
+    public static final int LOW_BATTERY_THRESHOLD = 20;
+
+    private static final int ONLINE = 1;
+    private static final int ASSIGNED = 1 << 1;
+    private static final int LOW_BATTERY = 1 << 2;
+    private static final int MAINTENANCE = 1 << 3;
+    private static final int ACTIVE = 1 << 4;
+
+    private final PoleRepository poleRepository;
+    private final SchedulerLeaseService leaseService;
+
+    private final Map<String, Integer> flagsByPole = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger online = new AtomicInteger();
+    private final AtomicInteger assigned = new AtomicInteger();
+    private final AtomicInteger lowBattery = new AtomicInteger();
+    private final AtomicInteger maintenance = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    public PoleFleetStatistics(PoleRepository poleRepository, SchedulerLeaseService leaseService,
+                               MeterRegistry meterRegistry) {
+        this.poleRepository = poleRepository;
+        this.leaseService = leaseService;
+
+        registerGauge(meterRegistry, "total", total);
+        registerGauge(meterRegistry, "online", online);
+        registerGauge(meterRegistry, "assigned", assigned);
+        registerGauge(meterRegistry, "low_battery", lowBattery);
+        registerGauge(meterRegistry, "maintenance", maintenance);
+        registerGauge(meterRegistry, "active", active);
+    }
+
+    /**
+     * 1시간마다 집계 쿼리로 카운터 점검 (리더 노드만), 어긋났을 때만 폴대별 상태를 다시 읽음
+     */
+    @Scheduled(fixedRate = 3600000, initialDelay = 3600000)
+    public void reconcile() {
+        if (!leaseService.isLeader(SchedulerLeaseService.POLE_STATISTICS)) {
+            return;
+        }
+        PoleFleetCounts counts = poleRepository.countFleet();
+        if (counts.getTotal() == total.get() && counts.getOnline() == online.get()
+                && counts.getAssigned() == assigned.get() && counts.getMaintenance() == maintenance.get()
+                && counts.getActive() == active.get()) {
+            return;
+        }
+        log.warn("Pole fleet statistics out of sync with database (total {} -> {}, online {} -> {}), reloading",
+                total.get(), counts.getTotal(), online.get(), counts.getOnline());
+        rebuild();
+    }
+
+    /**
+     * DB 기준으로 폴대별 상태 적재 (기동 시, 점검에서 어긋난 경우)
+     * 폴대별 변화분만 반영하므로 재구성 중에도 카운터가 0으로 떨어지지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Set<String> poleIds = new HashSet<>();
+        for (Pole pole : poleRepository.findAll()) {
+            poleIds.add(pole.getPoleId());
+            update(pole.getPoleId(), flagsOf(pole.getIsOnline(), pole.getPatientId(), pole.getBatteryLevel(), pole.getStatus()));
+        }
+        for (String poleId : flagsByPole.keySet()) {
+            if (!poleIds.contains(poleId)) {
+                untrack(poleId);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPoleChanged(PoleChangedEvent event) {
+        if (event.isRemoved()) {
+            untrack(event.getPoleId());
+        } else {
+            update(event.getPoleId(), flagsOf(event.getOnline(), event.getPatientId(), event.getBatteryLevel(), event.getStatus()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolesOffline(PolesOfflineEvent event) {
+        clearFlag(event.getPoleIds(), ONLINE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolesUnassigned(PolesUnassignedEvent event) {
+        clearFlag(event.getPoleIds(), ASSIGNED);
+    }
+
+    private static int flagsOf(Boolean isOnline, Integer patientId, Integer batteryLevel, Pole.PoleStatus status) {
+        int flags = 0;
+        if (Boolean.TRUE.equals(isOnline)) flags |= ONLINE;
+        if (patientId != null) flags |= ASSIGNED;
+        if (batteryLevel != null && batteryLevel < LOW_BATTERY_THRESHOLD) flags |= LOW_BATTERY;
+        if (status == Pole.PoleStatus.maintenance) flags |= MAINTENANCE;
+        if (status == Pole.PoleStatus.active) flags |= ACTIVE;
+        return flags;
+    }
+
+    private void update(String poleId, int newFlags) {
+        flagsByPole.compute(poleId, (id, oldFlags) -> {
+            if (oldFlags == null) {
+                total.incrementAndGet();
+                apply(0, newFlags);
+            } else {
+                apply(oldFlags, newFlags);
+            }
+            return newFlags;
+        });
+    }
+
+    /**
+     * 핑 수신 (DB 저장 여부와 무관하게 메모리 상태 기준, 실제로 핑을 받았으므로 커밋을 기다리지 않음)
+     */
+    public void recordHeartbeat(String poleId, Integer batteryLevel) {
+        flagsByPole.computeIfPresent(poleId, (id, oldFlags) -> {
+            int newFlags = oldFlags | ONLINE;
+            if (batteryLevel != null) {
+                newFlags = batteryLevel < LOW_BATTERY_THRESHOLD ? newFlags | LOW_BATTERY : newFlags & ~LOW_BATTERY;
+            }
+            apply(oldFlags, newFlags);
+            return newFlags;
+        });
+    }
+
+    private void untrack(String poleId) {
+        flagsByPole.computeIfPresent(poleId, (id, oldFlags) -> {
+            total.decrementAndGet();
+            apply(oldFlags, 0);
+            return null;
+        });
+    }
+
+    /**
+     * 상태가 active인 폴대 수
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public Map<String, Object> getStatistics() {
+        int totalCount = total.get();
+        int onlineCount = online.get();
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("total", totalCount);
+        statistics.put("online", onlineCount);
+        statistics.put("offline", totalCount - onlineCount);
+        statistics.put("assigned", assigned.get());
+        statistics.put("lowBattery", lowBattery.get());
+        statistics.put("maintenance", maintenance.get());
+        statistics.put("active", active.get());
+        return statistics;
+    }
+
+    private void clearFlag(Collection<String> poleIds, int flag) {
+        for (String poleId : poleIds) {
+            flagsByPole.computeIfPresent(poleId, (id, oldFlags) -> {
+                int newFlags = oldFlags & ~flag;
+                apply(oldFlags, newFlags);
+                return newFlags;
+            });
+        }
+    }
+
+    private void apply(int oldFlags, int newFlags) {
+        int changed = oldFlags ^ newFlags;
+        if (changed == 0) return;
+
+        adjust(changed, newFlags, ONLINE, online);
+        adjust(changed, newFlags, ASSIGNED, assigned);
+        adjust(changed, newFlags, LOW_BATTERY, lowBattery);
+        adjust(changed, newFlags, MAINTENANCE, maintenance);
+        adjust(changed, newFlags, ACTIVE, active);
+    }
+
+    private static void adjust(int changed, int newFlags, int flag, AtomicInteger counter) {
+        if ((changed & flag) != 0) {
+            counter.addAndGet((newFlags & flag) != 0 ? 1 : -1);
+        }
+    }
+
+    private static void registerGauge(MeterRegistry meterRegistry, String state, AtomicInteger counter) {
+        Gauge.builder("smartpole.poles", counter, AtomicInteger::get)
+                .description("Number of IV poles by state")
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.smartpole.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 폴대 핑(heartbeat) write-behind 저장소
+ * - 핑 시각/배터리 잔량을 폴대별 인덱스의 primitive 배열에 보관
+ * - DB 반영이 필요한 경우에만 recordPing()이 true 반환
+ *   1) 오프라인 → 온라인 전환 (또는 기동 후 첫 핑)
+ *   2) 마지막으로 저장한 값 대비 배터리 변화가 임계값 이상
+ *   3) 마지막 저장 후 체크포인트 주기 경과
+ * - 삭제된 폴대의 인덱스는 반납해 다음에 등록되는 폴대가 재사용 (배열이 계속 커지지 않음)
+ */
+@Component
+public class PoleHeartbeatStore {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int batteryThreshold;
+    private final long checkpointMillis;
+
+    private final Map<String, Integer> indexByPole = new HashMap<>();
+    private long[] lastPingMillis = new long[INITIAL_CAPACITY];
+    private int[] batteryLevels = new int[INITIAL_CAPACITY];
+    private int[] persistedBatteryLevels = new int[INITIAL_CAPACITY];
+    private long[] persistedAtMillis = new long[INITIAL_CAPACITY];
+    private boolean[] online = new boolean[INITIAL_CAPACITY];
+    private int slotCount;
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+    public PoleHeartbeatStore(@Value("${pole.heartbeat.battery-threshold:5}") int batteryThreshold,
+                              @Value("${pole.heartbeat.checkpoint-minutes:30}") long checkpointMinutes) {
+        this.batteryThreshold = batteryThreshold;
+        this.checkpointMillis = checkpointMinutes * 60_000;
+    }
+
+    /**
+     * 핑 기록
+     * @return DB에 반영해야 하면 true (호출 측이 저장에 실패하면 invalidate() 호출)
+     */
+    public synchronized boolean recordPing(String poleId, Integer batteryLevel, long nowMillis) {
+        Integer index = indexByPole.get(poleId);
+        if (index == null) {
+            index = register(poleId);
+        }
+
+        lastPingMillis[index] = nowMillis;
+        if (batteryLevel != null) {
+            batteryLevels[index] = batteryLevel;
+        }
+
+        boolean cameOnline = !online[index];
+        boolean batteryChanged = batteryLevels[index] >= 0
+                && Math.abs(batteryLevels[index] - persistedBatteryLevels[index]) >= batteryThreshold;
+        boolean checkpointDue = nowMillis - persistedAtMillis[index] >= checkpointMillis;
+
+        if (!cameOnline && !batteryChanged && !checkpointDue) {
+            return false;
+        }
+
+        online[index] = true;
+        persistedBatteryLevels[index] = batteryLevels[index];
+        persistedAtMillis[index] = cameOnline
+                ? nowMillis - checkpointJitter(poleId) // 동시에 온라인된 폴대들의 체크포인트가 몰리지 않도록 분산
+                : nowMillis;
+        return true;
+    }
+
+    /**
+     * 오프라인 처리된 폴대 반영 → 다음 핑은 온라인 전환으로 DB에 저장됨
+     */
+    public synchronized void markOffline(Collection<String> poleIds) {
+        for (String poleId : poleIds) {
+            Integer index = indexByPole.get(poleId);
+            if (index != null) {
+                online[index] = false;
+            }
+        }
+    }
+
+    /**
+     * DB에서 온라인인 폴대만 온라인으로 남김 (온라인 감시 리더가 된 시점)
+     * 이전 리더가 오프라인 처리한 폴대를 이 노드가 아직 온라인으로 알고 있으면 핑이 DB에 기록되지 않으므로
+     * 나머지는 다음 핑이 온라인 전환으로 저장되게 함
+     */
+    public synchronized void retainOnline(Collection<String> onlinePoleIds) {
+        Set<String> onlineIds = new HashSet<>(onlinePoleIds);
+        for (Map.Entry<String, Integer> entry : indexByPole.entrySet()) {
+            if (!onlineIds.contains(entry.getKey())) {
+                online[entry.getValue()] = false;
+            }
+        }
+    }
+
+    /**
+     * DB 저장 실패 등으로 상태를 알 수 없을 때 → 다음 핑에서 다시 저장
+     */
+    public synchronized void invalidate(String poleId) {
+        Integer index = indexByPole.get(poleId);
+        if (index != null) {
+            online[index] = false;
+        }
+    }
+
+    /**
+     * 폴대 삭제 시 인덱스 반납
+     */
+    public synchronized void remove(String poleId) {
+        Integer index = indexByPole.remove(poleId);
+        if (index != null) {
+            freeSlots.push(index);
+        }
+    }
+
+    /**
+     * 메모리에 있는 마지막 핑 시각 (DB 값보다 최신일 수 있음)
+     */
+    public synchronized LocalDateTime getLastPingAt(String poleId) {
+        Integer index = indexByPole.get(poleId);
+        if (index == null || lastPingMillis[index] == 0) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(lastPingMillis[index]), ZoneId.systemDefault());
+    }
+
+    /**
+     * 메모리에 있는 마지막 배터리 잔량
+     */
+    public synchronized Integer getBatteryLevel(String poleId) {
+        Integer index = indexByPole.get(poleId);
+        return index != null && batteryLevels[index] >= 0 ? batteryLevels[index] : null;
+    }
+
+    public synchronized int size() {
+        return indexByPole.size();
+    }
+
+    private long checkpointJitter(String poleId) {
+        return Math.floorMod(poleId.hashCode() * 0x9E3779B9L, checkpointMillis);
+    }
+
+    private int register(String poleId) {
+        Integer free = freeSlots.poll();
+        if (free != null) {
+            indexByPole.put(poleId, free);
+            reset(free);
+            return free;
+        }
+        if (slotCount == lastPingMillis.length) {
+            int capacity = slotCount * 2;
+            lastPingMillis = Arrays.copyOf(lastPingMillis, capacity);
+            batteryLevels = Arrays.copyOf(batteryLevels, capacity);
+            persistedBatteryLevels = Arrays.copyOf(persistedBatteryLevels, capacity);
+            persistedAtMillis = Arrays.copyOf(persistedAtMillis, capacity);
+            online = Arrays.copyOf(online, capacity);
+        }
+
+        int index = slotCount++;
+        indexByPole.put(poleId, index);
+        reset(index);
+        return index;
+    }
+
+    private void reset(int index) {
+        lastPingMillis[index] = 0;
+        batteryLevels[index] = -1; // 아직 배터리 정보 없음
+        persistedBatteryLevels[index] = -1;
+        persistedAtMillis[index] = 0;
+        online[index] = false;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.smartpole.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 폴대 온라인 상태 추적용 해시드 타이밍 휠
+ * - 핑/텔레메트리 수신 시마다 해당 폴대의 데드라인을 재설정 (arm)
+ * - 1초 단위 슬롯으로 나뉜 휠을 스케줄러가 진행 (advance)
+ * - 데드라인을 놓친 폴대만 만료 목록으로 반환 → 틱당 비용은 만료 대상 수에 비례
+ */
+@Component
+public class PoleLivenessTracker {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 128; // 2의 거듭제곱 (슬롯 계산에 비트마스크 사용)
+
+    private final long timeoutMillis;
+    private final Set<String>[] wheel;
+    private final Map<String, Long> deadlineTicks = new HashMap<>();
+    private long currentTick;
+
+    public PoleLivenessTracker(@Value("${pole.liveness.timeout-seconds:60}") long timeoutSeconds) {
+        this(timeoutSeconds, System.currentTimeMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    PoleLivenessTracker(long timeoutSeconds, long nowMillis) {
+        this.timeoutMillis = timeoutSeconds * 1000;
+        this.wheel = new Set[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new HashSet<>();
+        }
+        this.currentTick = nowMillis / TICK_MILLIS;
+    }
+
+    /**
+     * 지금 핑을 받은 것으로 데드라인 재설정
+     */
+    public void arm(String poleId) {
+        arm(poleId, System.currentTimeMillis());
+    }
+
+    /**
+     * 마지막 핑 시각 기준으로 데드라인 재설정 (기동 시 DB 상태 복원용)
+     */
+    public void arm(String poleId, LocalDateTime lastPingAt) {
+        arm(poleId, lastPingAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * 기존 데드라인보다 늦어지는 경우에만 재설정 (다른 노드가 DB에 기록한 핑 반영용)
+     */
+    public void extend(String poleId, LocalDateTime lastPingAt) {
+        extend(poleId, lastPingAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    synchronized void extend(String poleId, long lastPingMillis) {
+        Long previousTick = deadlineTicks.get(poleId);
+        if (previousTick == null || deadlineTickOf(lastPingMillis) > previousTick) {
+            arm(poleId, lastPingMillis);
+        }
+    }
+
+    synchronized void arm(String poleId, long lastPingMillis) {
+        if (poleId == null) return;
+
+        long deadlineTick = deadlineTickOf(lastPingMillis);
+        if (deadlineTick <= currentTick) {
+            deadlineTick = currentTick + 1; // 이미 지난 데드라인은 다음 틱에 만료
+        }
+
+        Long previousTick = deadlineTicks.put(poleId, deadlineTick);
+        if (previousTick != null) {
+            wheel[slotOf(previousTick)].remove(poleId);
+        }
+        wheel[slotOf(deadlineTick)].add(poleId);
+    }
+
+    /**
+     * 추적 해제 (폴대 삭제 등)
+     */
+    public synchronized void disarm(String poleId) {
+        Long previousTick = deadlineTicks.remove(poleId);
+        if (previousTick != null) {
+            wheel[slotOf(previousTick)].remove(poleId);
+        }
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행하고 데드라인을 놓친 폴대 ID 반환
+     */
+    public List<String> advance() {
+        return advance(System.currentTimeMillis());
+    }
+
+    synchronized List<String> advance(long nowMillis) {
+        List<String> expired = new ArrayList<>();
+        long targetTick = nowMillis / TICK_MILLIS;
+
+        // 오래 멈췄다면 한 바퀴만 돌면 모든 슬롯을 확인할 수 있음
+        if (targetTick - currentTick > WHEEL_SIZE) {
+            currentTick = targetTick - WHEEL_SIZE;
+        }
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            Iterator<String> it = wheel[slotOf(currentTick)].iterator();
+            while (it.hasNext()) {
+                String poleId = it.next();
+                // 같은 슬롯이라도 다음 바퀴 이후의 데드라인이면 유지
+                if (deadlineTicks.get(poleId) <= currentTick) {
+                    it.remove();
+                    deadlineTicks.remove(poleId);
+                    expired.add(poleId);
+                }
+            }
+        }
+
+        return expired;
+    }
+
+    /**
+     * 이 시각 이전의 마지막 핑은 데드라인을 놓친 것으로 간주
+     */
+    public LocalDateTime offlineCutoff() {
+        return LocalDateTime.now().minusNanos(timeoutMillis * 1_000_000);
+    }
+
+    public synchronized boolean isTracked(String poleId) {
+        return deadlineTicks.containsKey(poleId);
+    }
+
+    public synchronized int trackedCount() {
+        return deadlineTicks.size();
+    }
+
+    private long deadlineTickOf(long lastPingMillis) {
+        // 데드라인이 지난 틱까지 포함해 만료되도록 올림 처리
+        return (lastPingMillis + timeoutMillis + TICK_MILLIS - 1) / TICK_MILLIS;
+    }
+
+    private static int slotOf(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+}
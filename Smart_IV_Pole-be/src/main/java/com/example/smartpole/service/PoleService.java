@@ -1,13 +1,21 @@
 package com.example.smartpole.service;
 
 import com.example.smartpole.entity.Pole;
+import com.example.smartpole.event.PolesOfflineEvent;
 import com.example.smartpole.repository.PoleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -17,17 +25,24 @@ public class PoleService {
 
     private final PoleRepository poleRepository;
     private final AlertLogService alertLogService;
-
+    private final PoleLivenessTracker livenessTracker;
+    private final PoleHeartbeatStore heartbeatStore;
+    private final PoleFleetStatistics fleetStatistics;
+    private final SchedulerLeaseService leaseService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    // 목록 조회는 할당된 환자를 함께 조회 (응답 변환 시 폴대마다 환자를 따로 조회하지 않음)
     public List<Pole> getAllPoles() {
-        return poleRepository.findAll();
+        return poleRepository.findAllWithPatient();
     }
 
     public List<Pole> getActivePoles() {
-        return poleRepository.findByStatusOrderByPoleIdAsc(Pole.PoleStatus.active);
+        return poleRepository.findByStatusWithPatient(Pole.PoleStatus.active);
     }
 
     public List<Pole> getOnlinePoles() {
-        return poleRepository.findByIsOnlineOrderByPoleIdAsc(true);
+        return poleRepository.findByIsOnlineWithPatient(true);
     }
 
     public List<Pole> getAvailableOnlinePoles() {
@@ -35,6 +50,10 @@ public class PoleService {
         return poleRepository.findByIsOnlineAndPatientIdIsNullOrderByPoleIdAsc(true);
     }
 
+    public List<Pole> getOnlinePolesPingedSince(LocalDateTime since) {
+        return poleRepository.findOnlinePolesPingedSince(since);
+    }
+
     public Optional<Pole> getPoleById(String poleId) {
         return poleRepository.findById(poleId);
     }
@@ -51,6 +70,13 @@ public class PoleService {
         return poleRepository.countActivePoles();
     }
 
+    /**
+     * 폴대 현황 통계 (증분 유지 카운터, DB 조회 없음)
+     */
+    public Map<String, Object> getFleetStatistics() {
+        return fleetStatistics.getStatistics();
+    }
+
     @Transactional
     public Pole savePole(Pole pole) {
         return poleRepository.save(pole);
@@ -92,9 +118,92 @@ public class PoleService {
         return poleRepository.save(pole);
     }
 
+    /**
+     * ESP 핑 처리 (write-behind)
+     * 핑 시각/배터리는 메모리에만 기록하고 온라인 전환, 배터리 변화, 체크포인트 시점에만 DB에 반영
+     * 온라인 감시 리더가 아닌 노드는 매번 DB에 기록 (리더가 DB에서 핑을 확인할 수 있도록)
+     */
+    @Transactional
+    public void recordPing(String poleId, Integer batteryLevel) {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        boolean persist = heartbeatStore.recordPing(poleId, batteryLevel, nowMillis);
+        fleetStatistics.recordHeartbeat(poleId, batteryLevel);
+        if (!persist && leaseService.isLeader(SchedulerLeaseService.POLE_LIVENESS)) {
+            return;
+        }
+
+        try {
+            int updated = poleRepository.updateHeartbeat(poleId, now, batteryLevel);
+            if (updated == 0) {
+                // 폴대가 없으면 자동 생성 (Auto-registration)
+                System.out.println("[INFO] New pole auto-registered: " + poleId);
+                Pole newPole = new Pole();
+                newPole.setPoleId(poleId);
+                newPole.setStatus(Pole.PoleStatus.active);
+                newPole.setBatteryLevel(batteryLevel != null ? batteryLevel : 100);
+                newPole.setIsOnline(true);
+                newPole.setLastPingAt(now);
+                newPole.setCreatedAt(now);
+                newPole.setUpdatedAt(now);
+                poleRepository.saveAndFlush(newPole);
+            }
+        } catch (RuntimeException e) {
+            heartbeatStore.invalidate(poleId);
+            throw e;
+        }
+    }
+
+    /**
+     * 데드라인을 놓친 폴대를 한 번의 UPDATE로 오프라인 처리
+     * 그 사이 핑이 기록된 폴대(last_ping_at >= cutoff)는 제외하고, 실제로 오프라인 처리된 ID만 반환
+     * 같은 UPDATE에서 메모리의 마지막 핑 시각도 기록 (write-behind로 DB에 늦게 남아 있는 값 보정)
+     */
+    @Transactional
+    public List<String> markPolesOffline(Collection<String> poleIds, LocalDateTime cutoff) {
+        if (poleIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> stalePoleIds = poleRepository.lockStaleOnlinePoleIds(poleIds, cutoff);
+        if (!stalePoleIds.isEmpty()) {
+            markOffline(stalePoleIds, LocalDateTime.now());
+            heartbeatStore.markOffline(stalePoleIds);
+            eventPublisher.publishEvent(new PolesOfflineEvent(stalePoleIds));
+        }
+        return stalePoleIds;
+    }
+
+    // UPDATE poles SET is_online = false, last_ping_at = CASE pole_id WHEN ... (더 최신일 때만) ... END
+    private void markOffline(List<String> poleIds, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("poleIds", poleIds)
+                .addValue("now", now);
+        StringBuilder lastPingCases = new StringBuilder();
+        for (int i = 0; i < poleIds.size(); i++) {
+            LocalDateTime lastPingAt = heartbeatStore.getLastPingAt(poleIds.get(i));
+            if (lastPingAt == null) {
+                continue;
+            }
+            lastPingCases.append(" WHEN :pole").append(i)
+                    .append(" THEN GREATEST(COALESCE(last_ping_at, :ping").append(i).append("), :ping").append(i).append(')');
+            params.addValue("pole" + i, poleIds.get(i));
+            params.addValue("ping" + i, lastPingAt);
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE poles SET is_online = false, updated_at = :now");
+        if (!lastPingCases.isEmpty()) {
+            sql.append(", last_ping_at = CASE pole_id").append(lastPingCases).append(" ELSE last_ping_at END");
+        }
+        sql.append(" WHERE pole_id IN (:poleIds) AND is_online = true");
+        namedJdbcTemplate.update(sql.toString(), params);
+    }
+
     @Transactional
     public void deletePole(String poleId) {
         poleRepository.deleteById(poleId);
+        livenessTracker.disarm(poleId);
+        heartbeatStore.remove(poleId);
     }
 
     public boolean existsById(String poleId) {
@@ -111,7 +220,7 @@ public class PoleService {
     }
 
     public List<Pole> getPolesByPatient(Integer patientId) {
-        return poleRepository.findByPatientId(patientId);
+        return poleRepository.findByPatientIdWithPatient(patientId);
     }
 
     public Optional<Pole> getActivePoleByPatient(Integer patientId) {
@@ -1,10 +1,16 @@
 package com.example.smartpole.service;
 
+import com.example.smartpole.dto.CursorPage;
+import com.example.smartpole.dto.view.PrescriptionSummary;
 import com.example.smartpole.entity.InfusionSession;
 import com.example.smartpole.entity.Pole;
 import com.example.smartpole.entity.Prescription;
 import com.example.smartpole.repository.PrescriptionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,16 +27,43 @@ public class PrescriptionService {
     private final InfusionSessionService infusionSessionService;
     private final PoleService poleService;
 
-    public List<Prescription> getAllPrescriptions() {
-        return prescriptionRepository.findAll();
+    /**
+     * due_at 컬럼 추가 이전에 시작된 처방 보정 (이후 시작분은 엔티티에서 계산)
+     * 지연 타이머가 기동 시 due_at을 읽기 전에 실행되도록 가장 먼저 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void backfillDueAt() {
+        int updated = prescriptionRepository.backfillDueAt();
+        if (updated > 0) {
+            System.out.println("[INFO] due_at backfilled for " + updated + " prescriptions");
+        }
+    }
+
+    // 목록 조회는 읽기 모델로 반환 (엔티티 로드/변경 감지 없이 필요한 컬럼만 조회)
+    public List<PrescriptionSummary> getAllPrescriptions() {
+        return prescriptionRepository.findAllSummaries();
+    }
+
+    /**
+     * 처방 목록 (커서 기반, 최신순)
+     */
+    public CursorPage<PrescriptionSummary> getPrescriptionPage(String cursor, Integer size) {
+        return CursorPage.fetch(cursor, size, prescriptionRepository::findPageFirst, prescriptionRepository::findPageAfter,
+                PrescriptionSummary::prescribedAt, PrescriptionSummary::id);
     }
 
     public Optional<Prescription> getPrescriptionById(Integer id) {
         return prescriptionRepository.findById(id);
     }
 
-    public List<Prescription> getPrescriptionsByPatient(Integer patientId) {
-        return prescriptionRepository.findByPatientId(patientId);
+    public List<PrescriptionSummary> getPrescriptionsByPatient(Integer patientId) {
+        return prescriptionRepository.findSummariesByPatientId(patientId);
+    }
+
+    public List<PrescriptionSummary> getActivePrescriptionSummariesByPatient(Integer patientId) {
+        return prescriptionRepository.findActiveSummariesByPatientId(patientId);
     }
 
     public List<Prescription> getActivePrescriptionsByPatient(Integer patientId) {
@@ -46,7 +79,7 @@ public class PrescriptionService {
     }
 
     public List<Prescription> getOverduePrescriptions() {
-        return prescriptionRepository.findOverduePrescriptions();
+        return prescriptionRepository.findOverduePrescriptions(LocalDateTime.now());
     }
 
     public Long countActiveByPatient(Integer patientId) {
@@ -65,16 +98,10 @@ public class PrescriptionService {
         // Validate required fields
         validatePrescription(prescription);
 
-        // Mark existing active/prescribed prescriptions as COMPLETED for this patient
-        List<Prescription> existingPrescriptions = prescriptionRepository.findByPatientId(prescription.getPatientId());
-        for (Prescription existing : existingPrescriptions) {
-            if (existing.getStatus() == Prescription.PrescriptionStatus.ACTIVE ||
-                existing.getStatus() == Prescription.PrescriptionStatus.PRESCRIBED) {
-                System.out.println("[PRESCRIPTION-CREATE] 기존 처방 완료 처리: Prescription ID " + existing.getId());
-                existing.setStatus(Prescription.PrescriptionStatus.COMPLETED);
-                existing.setCompletedAt(LocalDateTime.now());
-                prescriptionRepository.save(existing);
-            }
+        // Mark existing active/prescribed prescriptions as COMPLETED for this patient (한 번의 UPDATE)
+        int completed = prescriptionRepository.completeSupersededByPatientId(prescription.getPatientId(), LocalDateTime.now());
+        if (completed > 0) {
+            System.out.println("[PRESCRIPTION-CREATE] 기존 처방 " + completed + "건 완료 처리");
         }
 
         // Set default values for new prescription
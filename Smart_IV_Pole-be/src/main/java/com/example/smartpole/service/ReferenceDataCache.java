@@ -0,0 +1,30 @@
+package com.example.smartpole.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참조 데이터(약품 유형, 병동, 병실, 간호사) 2차 캐시 무효화
+ * - READ_WRITE 캐시라 같은 노드에서 엔티티로 저장/삭제하면 Hibernate가 반영하지만,
+ *   deleteById처럼 대상이 없을 수도 있는 경로와 조회 결과 캐시까지 확실히 비우기 위해 변경 직후 명시적으로 호출
+ * - 다른 노드의 캐시는 application.conf의 만료 시간으로 보완
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evict(Class<?> entityType, Object id) {
+        if (id != null) {
+            entityManagerFactory.getCache().evict(entityType, id);
+        }
+        evictQueries();
+    }
+
+    private void evictQueries() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.repository.SchedulerLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 리스 기반 스케줄러 리더 선출
+ * - 작업별로 scheduler_leases 행 하나를 두고, 조건부 UPDATE로 획득/갱신 (owner가 나 자신이거나 만료된 경우만)
+ * - 리더는 renew 주기마다 만료 시각을 연장, 리더가 죽으면 TTL 경과 후 다른 노드가 인수
+ * - 로컬에서는 마지막 갱신 성공 시점 + (TTL - 갱신 주기)까지만 리더로 간주 → 갱신이 밀리면 먼저 물러남
+ * - 노드 간 시계는 NTP로 동기화되어 있다고 가정 (만료 시각을 각 노드 시계로 기록)
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+    public static final String POLE_LIVENESS = "pole-liveness";
+    public static final String POLE_STATISTICS = "pole-statistics";
+    public static final String ALERT_RETENTION = "alert-retention";
+    public static final String PRESCRIPTION_DUE = "prescription-due";
+
+    private static final String[] LEASES = {POLE_LIVENESS, POLE_STATISTICS, ALERT_RETENTION, PRESCRIPTION_DUE};
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final String nodeId;
+    private final long ttlMillis;
+    private final long renewMillis;
+
+    // 리스별 로컬 유효 기한 (System.nanoTime 기준, 시계 변경 영향 없음)
+    private final Map<String, Long> heldUntilNanos = new ConcurrentHashMap<>();
+
+    public SchedulerLeaseService(SchedulerLeaseRepository leaseRepository,
+                                 @Value("${scheduler.lease.node-id:}") String nodeId,
+                                 @Value("${scheduler.lease.ttl-seconds:15}") long ttlSeconds,
+                                 @Value("${scheduler.lease.renew-seconds:5}") long renewSeconds) {
+        this.leaseRepository = leaseRepository;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.renewMillis = renewSeconds * 1000;
+    }
+
+    /**
+     * 이 노드가 해당 작업의 리더인지 (DB 조회 없음)
+     */
+    public boolean isLeader(String leaseName) {
+        Long heldUntil = heldUntilNanos.get(leaseName);
+        return heldUntil != null && System.nanoTime() - heldUntil < 0;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 모든 리스 획득/갱신 (TTL보다 짧은 주기로 실행)
+     */
+    @Scheduled(fixedRateString = "${scheduler.lease.renew-seconds:5}", timeUnit = TimeUnit.SECONDS)
+    public void renewLeases() {
+        for (String leaseName : LEASES) {
+            boolean wasLeader = isLeader(leaseName);
+            boolean leader = tryAcquire(leaseName);
+
+            if (leader && !wasLeader) {
+                log.info("Scheduler lease acquired: {} (node {})", leaseName, nodeId);
+            } else if (!leader && wasLeader) {
+                log.warn("Scheduler lease lost: {} (node {})", leaseName, nodeId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void releaseLeases() {
+        for (String leaseName : LEASES) {
+            if (heldUntilNanos.remove(leaseName) != null) {
+                try {
+                    leaseRepository.release(leaseName, nodeId, LocalDateTime.now());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to release scheduler lease {}: {}", leaseName, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean tryAcquire(String leaseName) {
+        long startedNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusNanos(ttlMillis * 1_000_000);
+
+        boolean acquired;
+        try {
+            acquired = leaseRepository.tryAcquire(leaseName, nodeId, expiresAt, now) == 1
+                    || leaseRepository.insertIfAbsent(leaseName, nodeId, expiresAt) == 1;
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew scheduler lease {}: {}", leaseName, e.getMessage());
+            acquired = false;
+        }
+
+        if (acquired) {
+            // 다른 노드는 TTL 이후에야 인수 가능 → 갱신이 한 주기 밀리면 그보다 먼저 물러남
+            heldUntilNanos.put(leaseName, startedNanos + (ttlMillis - renewMillis) * 1_000_000);
+        } else {
+            heldUntilNanos.remove(leaseName);
+        }
+        return acquired;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
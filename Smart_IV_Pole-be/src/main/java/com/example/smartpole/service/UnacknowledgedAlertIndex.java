@@ -0,0 +1,359 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.dto.dashboard.AlertView;
+import com.example.smartpole.dto.dashboard.RowSignature;
+import com.example.smartpole.dto.dashboard.SessionWard;
+import com.example.smartpole.entity.AlertLog;
+import com.example.smartpole.event.AlertLogChangedEvent;
+import com.example.smartpole.event.AlertsAcknowledgedEvent;
+import com.example.smartpole.event.AlertsDeletedEvent;
+import com.example.smartpole.event.PatientChangedEvent;
+import com.example.smartpole.repository.AlertLogRepository;
+import com.example.smartpole.repository.InfusionSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 미확인 알림 메모리 색인 (전체/심각도별/세션별/병동별)
+ * - 알림 저장/확인 이벤트를 커밋 이후에 반영하고, 조회는 DB 없이 현재 스냅샷만 읽음
+ * - 각 목록은 최신순으로 정렬된 불변 리스트 → 건수는 size()로 O(1)
+ * - 기동 시 DB에서 재구성, 이후 변경 확인은 노드마다 실행 (색인이 노드별 메모리라 리더만 확인해서는 맞출 수 없음)
+ *   1분마다 집계 쿼리 한 번(건수 + ID 합)으로 다른 노드의 변경만 확인하고, 달라졌을 때만 다시 조회
+ *   병동 이동처럼 집계에 드러나지 않는 변경은 10분마다 전체 비교로 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnacknowledgedAlertIndex {
+
+    private static final Comparator<AlertView> NEWEST_FIRST =
+            Comparator.comparing(AlertView::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(AlertView::getAlertId, Comparator.reverseOrder());
+
+    private final AlertLogRepository alertLogRepository;
+    private final InfusionSessionRepository infusionSessionRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    // 세션 → 병동 (환자 저장 이벤트마다 비움, 이미 색인된 알림의 병동은 재구성 비교로 맞춤)
+    private final Map<Integer, String> wardBySession = new ConcurrentHashMap<>();
+
+    public List<AlertView> getAll() {
+        return snapshot.get().all;
+    }
+
+    public List<AlertView> getBySeverity(AlertLog.Severity severity) {
+        return snapshot.get().bySeverity.getOrDefault(severity, List.of());
+    }
+
+    public List<AlertView> getBySession(Integer sessionId) {
+        return snapshot.get().bySession.getOrDefault(sessionId, List.of());
+    }
+
+    public List<AlertView> getByWard(String wardId) {
+        return snapshot.get().byWard.getOrDefault(wardId, List.of());
+    }
+
+    public int count() {
+        return getAll().size();
+    }
+
+    public int count(AlertLog.Severity severity) {
+        return getBySeverity(severity).size();
+    }
+
+    /**
+     * 심각도별 건수 (모든 심각도 포함, 없으면 0)
+     */
+    public Map<AlertLog.Severity, Integer> countBySeverity() {
+        Snapshot current = snapshot.get();
+        Map<AlertLog.Severity, Integer> counts = new EnumMap<>(AlertLog.Severity.class);
+        for (AlertLog.Severity severity : AlertLog.Severity.values()) {
+            counts.put(severity, current.bySeverity.getOrDefault(severity, List.of()).size());
+        }
+        return counts;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertChanged(AlertLogChangedEvent event) {
+        AlertView alert = event.getAlert();
+        if (event.isRemoved() || Boolean.TRUE.equals(alert.getAcknowledged())) {
+            remove(List.of(alert.getAlertId()));
+        } else {
+            put(alert, resolveWard(alert.getSessionId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertsAcknowledged(AlertsAcknowledgedEvent event) {
+        remove(event.getAlertIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertsDeleted(AlertsDeletedEvent event) {
+        remove(event.getAlertIds());
+    }
+
+    /**
+     * 환자 병실 이동/퇴원 시 세션 → 병동 캐시 무효화 (세션별 환자를 알 수 없으므로 전체 비움)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientChanged(PatientChangedEvent event) {
+        wardBySession.clear();
+    }
+
+    /**
+     * 1분마다 DB 집계와 메모리 색인 비교 → 다를 때만 재구성
+     */
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public void checkForChanges() {
+        RowSignature signature = alertLogRepository.findUnacknowledgedSignature();
+        Map<Integer, Entry> entries = snapshot.get().entries;
+        long idSum = 0;
+        for (Integer alertId : entries.keySet()) {
+            idSum += alertId;
+        }
+        if (signature.getRowCount() != entries.size() || signature.getIdSum() != idSum) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB 기준으로 색인 재구성 (기동 시 + 10분마다 + 집계가 달라졌을 때)
+     * 조회 중 이벤트가 반영됐다면 이번 결과는 버리고 다음 주기에 다시 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRate = 600000, initialDelay = 600000)
+    public void rebuild() {
+        Snapshot before = snapshot.get();
+
+        List<AlertLog> alerts = alertLogRepository.findByAcknowledgedFalseOrderByCreatedAtDesc();
+        Set<Integer> sessionIds = new HashSet<>();
+        for (AlertLog alert : alerts) {
+            if (alert.getSessionId() != null) {
+                sessionIds.add(alert.getSessionId());
+            }
+        }
+        Map<Integer, String> wards = new HashMap<>();
+        if (!sessionIds.isEmpty()) {
+            for (SessionWard row : infusionSessionRepository.findWardsBySessionIds(sessionIds)) {
+                wards.put(row.getSessionId(), row.getWardId());
+            }
+        }
+
+        Map<Integer, Entry> entries = new LinkedHashMap<>();
+        for (AlertLog alert : alerts) {
+            entries.put(alert.getAlertId(), new Entry(AlertView.from(alert), wards.get(alert.getSessionId())));
+        }
+        if (sameAlertsAndWards(entries, before.entries)) {
+            return;
+        }
+
+        synchronized (this) {
+            if (snapshot.get() != before) {
+                return;
+            }
+            if (before != Snapshot.EMPTY) {
+                log.warn("Unacknowledged alert index out of sync with database ({} -> {}), rebuilding",
+                        before.entries.size(), entries.size());
+            }
+            wardBySession.clear();
+            wardBySession.putAll(wards);
+            snapshot.set(Snapshot.of(entries));
+        }
+    }
+
+    private static boolean sameAlertsAndWards(Map<Integer, Entry> fresh, Map<Integer, Entry> current) {
+        if (!fresh.keySet().equals(current.keySet())) {
+            return false;
+        }
+        for (Entry entry : fresh.values()) {
+            if (!Objects.equals(entry.wardId(), current.get(entry.alert().getAlertId()).wardId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized void put(AlertView alert, String wardId) {
+        Snapshot current = snapshot.get();
+        Entry previous = current.entries.get(alert.getAlertId());
+
+        Map<Integer, Entry> entries = new LinkedHashMap<>(current.entries);
+        entries.put(alert.getAlertId(), new Entry(alert, wardId));
+
+        Snapshot next = current.copy(entries);
+        if (previous != null) {
+            next.unindex(previous);
+        }
+        next.index(new Entry(alert, wardId));
+        snapshot.set(next);
+    }
+
+    private synchronized void remove(Collection<Integer> alertIds) {
+        Snapshot current = snapshot.get();
+        List<Entry> removed = new ArrayList<>();
+        for (Integer alertId : alertIds) {
+            Entry entry = current.entries.get(alertId);
+            if (entry != null) {
+                removed.add(entry);
+            }
+        }
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Entry> entries = new LinkedHashMap<>(current.entries);
+        entries.keySet().removeAll(alertIds);
+
+        // 일괄 확인은 대부분의 알림을 지우므로 남은 항목으로 다시 구성
+        if (removed.size() > 1) {
+            snapshot.set(Snapshot.of(entries));
+            return;
+        }
+        Snapshot next = current.copy(entries);
+        next.unindex(removed.get(0));
+        snapshot.set(next);
+    }
+
+    private String resolveWard(Integer sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        String wardId = wardBySession.get(sessionId);
+        if (wardId != null) {
+            return wardId;
+        }
+        for (SessionWard row : infusionSessionRepository.findWardsBySessionIds(List.of(sessionId))) {
+            wardId = row.getWardId();
+        }
+        if (wardId != null) {
+            wardBySession.put(sessionId, wardId);
+        }
+        return wardId;
+    }
+
+    private record Entry(AlertView alert, String wardId) {
+    }
+
+    /**
+     * 색인 스냅샷 - 공개 후에는 변경하지 않음 (copy/index/unindex는 공개 전 구성 단계에서만 사용)
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = of(new LinkedHashMap<>());
+
+        private final Map<Integer, Entry> entries;
+        private List<AlertView> all;
+        private final Map<AlertLog.Severity, List<AlertView>> bySeverity;
+        private final Map<Integer, List<AlertView>> bySession;
+        private final Map<String, List<AlertView>> byWard;
+
+        private Snapshot(Map<Integer, Entry> entries, List<AlertView> all,
+                         Map<AlertLog.Severity, List<AlertView>> bySeverity,
+                         Map<Integer, List<AlertView>> bySession,
+                         Map<String, List<AlertView>> byWard) {
+            this.entries = entries;
+            this.all = all;
+            this.bySeverity = bySeverity;
+            this.bySession = bySession;
+            this.byWard = byWard;
+        }
+
+        static Snapshot of(Map<Integer, Entry> entries) {
+            Snapshot snapshot = new Snapshot(entries, List.of(), new EnumMap<>(AlertLog.Severity.class),
+                    new HashMap<>(), new HashMap<>());
+            List<AlertView> all = new ArrayList<>();
+            for (Entry entry : entries.values()) {
+                all.add(entry.alert());
+            }
+            all.sort(NEWEST_FIRST);
+            for (AlertView alert : all) {
+                snapshot.bySeverity.computeIfAbsent(alert.getSeverity(), key -> new ArrayList<>()).add(alert);
+                if (alert.getSessionId() != null) {
+                    snapshot.bySession.computeIfAbsent(alert.getSessionId(), key -> new ArrayList<>()).add(alert);
+                }
+                String wardId = entries.get(alert.getAlertId()).wardId();
+                if (wardId != null) {
+                    snapshot.byWard.computeIfAbsent(wardId, key -> new ArrayList<>()).add(alert);
+                }
+            }
+            snapshot.bySeverity.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            snapshot.bySession.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            snapshot.byWard.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            snapshot.all = Collections.unmodifiableList(all);
+            return snapshot;
+        }
+
+        Snapshot copy(Map<Integer, Entry> entries) {
+            return new Snapshot(entries, all, new EnumMap<>(bySeverity), new HashMap<>(bySession), new HashMap<>(byWard));
+        }
+
+        void index(Entry entry) {
+            AlertView alert = entry.alert();
+            all = inserted(all, alert);
+            bySeverity.put(alert.getSeverity(), inserted(bySeverity.get(alert.getSeverity()), alert));
+            if (alert.getSessionId() != null) {
+                bySession.put(alert.getSessionId(), inserted(bySession.get(alert.getSessionId()), alert));
+            }
+            if (entry.wardId() != null) {
+                byWard.put(entry.wardId(), inserted(byWard.get(entry.wardId()), alert));
+            }
+        }
+
+        void unindex(Entry entry) {
+            AlertView alert = entry.alert();
+            all = removed(all, alert.getAlertId());
+            bySeverity.computeIfPresent(alert.getSeverity(), (key, list) -> removedOrNull(list, alert.getAlertId()));
+            if (alert.getSessionId() != null) {
+                bySession.computeIfPresent(alert.getSessionId(), (key, list) -> removedOrNull(list, alert.getAlertId()));
+            }
+            if (entry.wardId() != null) {
+                byWard.computeIfPresent(entry.wardId(), (key, list) -> removedOrNull(list, alert.getAlertId()));
+            }
+        }
+
+        /**
+         * 정렬 위치에 삽입한 새 리스트 (새 알림은 대부분 맨 앞)
+         */
+        private static List<AlertView> inserted(List<AlertView> list, AlertView alert) {
+            List<AlertView> copy = new ArrayList<>(list != null ? list.size() + 1 : 1);
+            if (list != null) {
+                copy.addAll(list);
+            }
+            int position = Collections.binarySearch(copy, alert, NEWEST_FIRST);
+            copy.add(position < 0 ? -position - 1 : position, alert);
+            return Collections.unmodifiableList(copy);
+        }
+
+        private static List<AlertView> removed(List<AlertView> list, Integer alertId) {
+            List<AlertView> copy = new ArrayList<>(list);
+            copy.removeIf(alert -> alert.getAlertId().equals(alertId));
+            return Collections.unmodifiableList(copy);
+        }
+
+        private static List<AlertView> removedOrNull(List<AlertView> list, Integer alertId) {
+            List<AlertView> copy = removed(list, alertId);
+            return copy.isEmpty() ? null : copy;
+        }
+    }
+}
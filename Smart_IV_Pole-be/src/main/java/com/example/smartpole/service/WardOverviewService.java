@@ -0,0 +1,210 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.dto.dashboard.SessionView;
+import com.example.smartpole.dto.dashboard.WardOverviewDTO;
+import com.example.smartpole.dto.dashboard.WardOverviewRow;
+import com.example.smartpole.entity.InfusionSession;
+import com.example.smartpole.event.InfusionSessionChangedEvent;
+import com.example.smartpole.event.PatientChangedEvent;
+import com.example.smartpole.event.RoomChangedEvent;
+import com.example.smartpole.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 병동 단위 현황 (병실/환자/진행 중 세션을 한 번의 쿼리로 조회)
+ * - 병동별로 결과를 캐시하고, 해당 병동의 세션/환자/병실 변경 이벤트가 커밋되면 무효화
+ * - 세션 이벤트는 구조 변경(시작/종료, 상태, 잔량 구간, 폴)일 때만 무효화하고, 잔량 샘플은 TTL로 반영
+ * - 다른 노드에서 발생한 변경은 이벤트가 오지 않으므로 TTL로 보완
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class WardOverviewService {
+
+    private final RoomRepository roomRepository;
+
+    @Value("${dashboard.ward-overview.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    private final Map<String, CachedOverview> cache = new ConcurrentHashMap<>();
+    // 병동별 무효화 횟수 (조회 도중 무효화된 결과는 캐시하지 않음)
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    // 무효화 대상 병동을 찾기 위한 역색인 (병동 조회 결과로 다시 구성, 환자 변경/병실 변경 시 제거)
+    private final Map<Integer, String> wardByPatient = new ConcurrentHashMap<>();
+    private final Map<String, String> wardByRoom = new ConcurrentHashMap<>();
+    // 세션별 마지막 구조 상태 (ESP 잔량 샘플마다 오는 이벤트로 캐시를 비우지 않기 위함, 종료/삭제 시 제거)
+    private final Map<Integer, SessionShape> sessionShapes = new ConcurrentHashMap<>();
+
+    public WardOverviewDTO getWardOverview(String wardId) {
+        CachedOverview cached = cache.get(wardId);
+        if (cached != null && !cached.isExpired(cacheTtlSeconds)) {
+            return cached.overview;
+        }
+
+        // DB 조회는 맵 잠금 밖에서 수행하고, 그동안 무효화가 없었을 때만 저장
+        long version = versions.getOrDefault(wardId, 0L);
+        WardOverviewDTO overview = load(wardId);
+        cache.compute(wardId, (id, existing) ->
+                versions.getOrDefault(id, 0L) == version ? new CachedOverview(overview) : existing);
+        return overview;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionChanged(InfusionSessionChangedEvent event) {
+        SessionView session = event.getSession();
+        if (event.isRemoved() || session.getStatus() == InfusionSession.SessionStatus.ENDED) {
+            sessionShapes.remove(session.getSessionId());
+        } else {
+            SessionShape shape = SessionShape.from(session);
+            if (shape.equals(sessionShapes.put(session.getSessionId(), shape))) {
+                return; // 같은 구간 안의 잔량 샘플 - TTL 만료 시 반영
+            }
+        }
+        evict(wardByPatient.get(session.getPatientId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPatientChanged(PatientChangedEvent event) {
+        // 병실 이동 시 이전 병동과 새 병동 모두 무효화 (역색인은 다음 조회에서 다시 채움)
+        evict(wardByPatient.remove(event.getPatientId()));
+        if (event.getRoomId() != null) {
+            evict(wardByRoom.get(event.getRoomId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        evict(wardByRoom.remove(event.getRoomId()));
+        evict(event.getWardId());
+    }
+
+    private void evict(String wardId) {
+        if (wardId != null) {
+            cache.compute(wardId, (id, existing) -> {
+                versions.merge(id, 1L, Long::sum);
+                return null;
+            });
+        }
+    }
+
+    private WardOverviewDTO load(String wardId) {
+        Map<String, WardOverviewDTO.RoomOverview> rooms = new LinkedHashMap<>();
+        Set<Integer> patientIds = new HashSet<>();
+        int normal = 0, warning = 0, critical = 0, activeSessions = 0;
+
+        for (WardOverviewRow row : roomRepository.findWardOverviewRows(wardId)) {
+            WardOverviewDTO.RoomOverview room = rooms.computeIfAbsent(row.getRoomId(), roomId ->
+                    WardOverviewDTO.RoomOverview.builder()
+                            .roomId(roomId)
+                            .roomNumber(row.getRoomNumber())
+                            .capacity(row.getCapacity() != null ? row.getCapacity() : 0)
+                            .beds(new ArrayList<>())
+                            .build());
+
+            if (row.getPatientId() == null || !patientIds.add(row.getPatientId())) {
+                continue; // 빈 병실 또는 같은 환자의 중복 세션
+            }
+
+            String status = sessionStatus(row);
+            switch (status) {
+                case "critical" -> critical++;
+                case "warning" -> warning++;
+                case "normal" -> normal++;
+                default -> { }
+            }
+            if (row.getSessionId() != null) {
+                activeSessions++;
+            }
+
+            room.getBeds().add(WardOverviewDTO.BedOverview.builder()
+                    .patientId(row.getPatientId())
+                    .patientName(row.getPatientName())
+                    .bedNumber(row.getBedNumber())
+                    .sessionId(row.getSessionId())
+                    .poleId(row.getPoleId())
+                    .remainingPct(row.getRemainingPct())
+                    .status(status)
+                    .build());
+        }
+
+        // 역색인을 이번 조회 결과로 교체 (먼저 추가한 뒤 병동을 떠난 환자/병실만 제거)
+        for (Integer patientId : patientIds) {
+            wardByPatient.put(patientId, wardId);
+        }
+        for (String roomId : rooms.keySet()) {
+            wardByRoom.put(roomId, wardId);
+        }
+        wardByPatient.entrySet().removeIf(e -> wardId.equals(e.getValue()) && !patientIds.contains(e.getKey()));
+        wardByRoom.entrySet().removeIf(e -> wardId.equals(e.getValue()) && !rooms.containsKey(e.getKey()));
+
+        int capacity = rooms.values().stream().mapToInt(WardOverviewDTO.RoomOverview::getCapacity).sum();
+
+        Map<String, Integer> sessionsByStatus = new LinkedHashMap<>();
+        sessionsByStatus.put("normal", normal);
+        sessionsByStatus.put("warning", warning);
+        sessionsByStatus.put("critical", critical);
+        sessionsByStatus.put("inactive", Math.max(capacity - activeSessions, 0));
+
+        return WardOverviewDTO.builder()
+                .wardId(wardId)
+                .capacity(capacity)
+                .occupiedBeds(patientIds.size())
+                .activeSessionCount(activeSessions)
+                .sessionsByStatus(sessionsByStatus)
+                .rooms(new ArrayList<>(rooms.values()))
+                .build();
+    }
+
+    /**
+     * 기존 병동 현황과 같은 기준: 잔량 5% 이하 critical, 30% 이하 warning
+     */
+    private static String sessionStatus(WardOverviewRow row) {
+        if (row.getSessionId() == null) {
+            return "inactive";
+        }
+        return remainingStatus(row.getRemainingPct());
+    }
+
+    private static String remainingStatus(Double remainingPct) {
+        if (remainingPct == null || remainingPct > 30) {
+            return "normal";
+        }
+        return remainingPct <= 5 ? "critical" : "warning";
+    }
+
+    /**
+     * 병동 현황에 보이는 세션 속성 중 잔량 값을 제외한 부분 (잔량은 normal/warning/critical 구간만 비교)
+     */
+    private record SessionShape(String poleId, InfusionSession.SessionStatus status, String remainingStatus) {
+
+        private static SessionShape from(SessionView session) {
+            return new SessionShape(session.getIvPoleId(), session.getStatus(),
+                    remainingStatus(session.getRemainingPct()));
+        }
+    }
+
+    private static final class CachedOverview {
+        private final WardOverviewDTO overview;
+        private final long loadedAtMillis = System.currentTimeMillis();
+
+        private CachedOverview(WardOverviewDTO overview) {
+            this.overview = overview;
+        }
+
+        private boolean isExpired(long ttlSeconds) {
+            return System.currentTimeMillis() - loadedAtMillis > ttlSeconds * 1000;
+        }
+    }
+}
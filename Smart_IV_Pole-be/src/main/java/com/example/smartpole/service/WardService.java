@@ -18,6 +18,7 @@ public class WardService {
 
     private final WardRepository wardRepository;
     private final RoomRepository roomRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     // Ward operations
     public List<Ward> getAllWards() {
@@ -32,12 +33,14 @@ public class WardService {
 
     public Ward saveWard(Ward ward) {
         log.debug("Saving ward: {}", ward.getWardName());
-        return wardRepository.save(ward);
+        Ward saved = wardRepository.save(ward);
+        referenceDataCache.evict(Ward.class, saved.getWardId());
+        return saved;
     }
 
     public Ward updateWard(String wardId, Ward ward) {
         log.debug("Updating ward with id: {}", wardId);
-        return wardRepository.findById(wardId)
+        Ward updated = wardRepository.findById(wardId)
                 .map(existingWard -> {
                     if (ward.getWardName() != null) {
                         existingWard.setWardName(ward.getWardName());
@@ -45,11 +48,14 @@ public class WardService {
                     return wardRepository.save(existingWard);
                 })
                 .orElseThrow(() -> new RuntimeException("Ward not found with id: " + wardId));
+        referenceDataCache.evict(Ward.class, wardId);
+        return updated;
     }
 
     public void deleteWard(String wardId) {
         log.debug("Deleting ward with id: {}", wardId);
         wardRepository.deleteById(wardId);
+        referenceDataCache.evict(Ward.class, wardId);
     }
 
     public boolean existsById(String wardId) {
@@ -77,12 +83,14 @@ public class WardService {
 
     public Room saveRoom(Room room) {
         log.debug("Saving room: {}", room.getRoomNumber());
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        referenceDataCache.evict(Room.class, saved.getPatientId());
+        return saved;
     }
 
     public Room updateRoom(Integer roomId, Room room) {
         log.debug("Updating room with id: {}", roomId);
-        return roomRepository.findById(roomId)
+        Room updated = roomRepository.findById(roomId)
                 .map(existingRoom -> {
                     if (room.getRoomId() != null) {
                         existingRoom.setRoomId(room.getRoomId());
@@ -99,10 +107,13 @@ public class WardService {
                     return roomRepository.save(existingRoom);
                 })
                 .orElseThrow(() -> new RuntimeException("Room not found with id: " + roomId));
+        referenceDataCache.evict(Room.class, roomId);
+        return updated;
     }
 
     public void deleteRoom(Integer roomId) {
         log.debug("Deleting room with id: {}", roomId);
         roomRepository.deleteById(roomId);
+        referenceDataCache.evict(Room.class, roomId);
     }
 }
\ No newline at end of file
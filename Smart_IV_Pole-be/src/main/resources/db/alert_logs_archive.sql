@@ -0,0 +1,16 @@
+-- 보존 기간이 지난 확인 완료 알림 보관용 (압축 행 형식)
+-- AlertRetentionService가 아카이브 작업 전에 실행 (없으면 생성)
+CREATE TABLE IF NOT EXISTS alert_logs_archive (
+alert_id INT NOT NULL,
+session_id INT NULL,
+alert_type VARCHAR(50) NOT NULL,
+severity VARCHAR(20) NOT NULL,
+message TEXT NOT NULL,
+acknowledged BIT NOT NULL,
+acknowledged_by VARCHAR(50) NULL,
+acknowledged_at DATETIME(6) NULL,
+created_at DATETIME(6) NOT NULL,
+archived_at DATETIME(6) NOT NULL,
+PRIMARY KEY (alert_id),
+KEY idx_alert_archive_created (created_at)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED;
@@ -0,0 +1,101 @@
+package com.example.smartpole.benchmark;
+
+import com.example.smartpole.entity.AlertLog;
+import com.example.smartpole.entity.InfusionLog;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.function.IntConsumer;
+
+/**
+ * 알림/투여 로그 대량 INSERT 처리량: JDBC 배치 없음(batch size 1, IDENTITY일 때와 같은 행 단위 실행) vs 배치 50
+ * 시퀀스 ID는 50개 단위로 미리 할당되므로 배치 측정 중에는 키 조회 왕복이 거의 없음
+ *
+ * 기본 빌드에서는 실행되지 않음:
+ *   SMARTPOLE_BENCHMARK=true ./gradlew test --tests '*AlertInsertBenchmarkTest' -i
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@EnabledIfEnvironmentVariable(named = "SMARTPOLE_BENCHMARK", matches = "true")
+class AlertInsertBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int CHUNK = 1000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 로그의 세션/환자 FK는 이 측정과 무관
+        entityManager.getEntityManager().createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void compareRowByRowAndBatchedInserts() {
+        // 워밍업
+        insert(1, 2000, this::persistAlert);
+        insert(50, 2000, this::persistAlert);
+
+        report("alerts (batch 1)", 1, this::persistAlert);
+        report("alerts (batch 50)", 50, this::persistAlert);
+        report("infusion logs (batch 1)", 1, this::persistInfusionLog);
+        report("infusion logs (batch 50)", 50, this::persistInfusionLog);
+    }
+
+    private void report(String label, int batchSize, IntConsumer persist) {
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        insert(batchSize, ROWS, persist);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+        System.out.printf("[BENCH] %-26s rows=%d  %6d ms  %8d rows/s  %6d statements prepared%n",
+                label, ROWS, elapsedMillis, ROWS * 1000L / elapsedMillis, statistics.getPrepareStatementCount());
+    }
+
+    private void insert(int batchSize, int rows, IntConsumer persist) {
+        entityManager.getEntityManager().unwrap(Session.class).setJdbcBatchSize(batchSize);
+        for (int i = 0; i < rows; i++) {
+            persist.accept(i);
+            if ((i + 1) % CHUNK == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void persistAlert(int i) {
+        AlertLog alert = new AlertLog();
+        alert.setSessionId(i % 100 + 1);
+        alert.setAlertType(AlertLog.AlertType.low_volume);
+        alert.setSeverity(i % 10 == 0 ? AlertLog.Severity.critical : AlertLog.Severity.warning);
+        alert.setMessage("잔량 부족 " + i);
+        entityManager.persist(alert);
+    }
+
+    private void persistInfusionLog(int i) {
+        InfusionLog log = new InfusionLog();
+        log.setSessionId(i % 100 + 1);
+        log.setPatientId(i % 100 + 1);
+        log.setDripId(1);
+        log.setStartedAt(LocalDateTime.now());
+        entityManager.persist(log);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.smartpole.benchmark;
+
+import com.example.smartpole.config.JacksonConfig;
+import com.example.smartpole.entity.Patient;
+import com.example.smartpole.entity.Prescription;
+import com.example.smartpole.repository.PatientRepository;
+import com.example.smartpole.repository.PrescriptionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회: 엔티티 vs 읽기 모델(프로젝션) 요청당 처리 시간과 힙 할당량 비교
+ * 조회 + JSON 직렬화까지 한 요청으로 측정 (매 반복마다 영속성 컨텍스트를 비워 엔티티를 새로 로드)
+ *
+ * 기본 빌드에서는 실행되지 않음:
+ *   SMARTPOLE_BENCHMARK=true ./gradlew test --tests '*ListProjectionBenchmarkTest' -i
+ */
+@DataJpaTest
+@EnabledIfEnvironmentVariable(named = "SMARTPOLE_BENCHMARK", matches = "true")
+class ListProjectionBenchmarkTest {
+
+    private static final int ROWS = 2000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private PrescriptionRepository prescriptionRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 처방의 환자/약품 FK는 이 측정과 무관
+        entityManager.getEntityManager().createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+        for (int i = 0; i < ROWS; i++) {
+            Patient patient = new Patient();
+            patient.setName("patient-" + i);
+            patient.setPhone("010-0000-" + String.format("%04d", i));
+            patient.setBirthDate(LocalDate.of(1980, 1, 1).plusDays(i));
+            patient.setGender(i % 2 == 0 ? Patient.Gender.male : Patient.Gender.female);
+            patient.setAddress("서울시 어딘가 " + i);
+            patient.setPinCode("123456");
+            entityManager.persist(patient);
+
+            Prescription prescription = new Prescription();
+            prescription.setPatientId(patient.getPatientId());
+            prescription.setDrugTypeId(1);
+            prescription.setTotalVolumeMl(1000);
+            prescription.setInfusionRateMlHr(100);
+            prescription.setGttFactor(20);
+            prescription.setCalculatedGtt(33);
+            prescription.setDurationHours(10.0);
+            prescription.setPrescribedBy("N001");
+            entityManager.persist(prescription);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void compareEntityAndProjectionLists() {
+        report("patients (entity)", () -> patientRepository.findAll());
+        report("patients (projection)", () -> patientRepository.findAllSummaries());
+        report("prescriptions (entity)", () -> prescriptionRepository.findAll());
+        report("prescriptions (projection)", () -> prescriptionRepository.findAllSummaries());
+    }
+
+    private void report(String label, Supplier<List<?>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            request(query);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        int jsonBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            jsonBytes = request(query);
+        }
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1000 / ITERATIONS;
+        long allocatedKb = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / 1024 / ITERATIONS;
+
+        System.out.printf("[BENCH] %-28s rows=%d  %6d us/request  %7d KB allocated/request  %7d bytes JSON%n",
+                label, ROWS, elapsedMicros, allocatedKb, jsonBytes);
+    }
+
+    private int request(Supplier<List<?>> query) {
+        entityManager.clear();
+        try {
+            List<?> rows = query.get();
+            assertThat(rows).hasSize(ROWS);
+            return objectMapper.writeValueAsBytes(rows).length;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.smartpole.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB를 primary/replica 대용으로 사용
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final MutableClock clock = new MutableClock();
+    private DataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        ReplicaReadGuard guard = new ReplicaReadGuard(Duration.ofSeconds(5), clock);
+        routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, guard));
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaReadGuard.clearClient();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(writeTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStickToPrimaryRightAfterWriteBySameClient() {
+        ReplicaReadGuard.bindClient("nurse-station-1");
+        writeTx.execute(status -> currentNode());
+
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("primary");
+
+        ReplicaReadGuard.bindClient("nurse-station-2");
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+
+        ReplicaReadGuard.bindClient("nurse-station-1");
+        clock.advance(Duration.ofSeconds(5));
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void writesWithoutClientDoNotPinReads() {
+        writeTx.execute(status -> currentNode());
+
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void nonTransactionalReadsUsePrimaryWithoutPinning() {
+        ReplicaReadGuard.bindClient("nurse-station-1");
+
+        assertThat(currentNode()).isEqualTo("primary");
+        assertThat(readOnlyTx.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    /**
+     * open-in-view=false 기준 한 요청 - JPA readOnly 트랜잭션 후 쓰기 트랜잭션이 각각 제 노드로 가야 함
+     */
+    @Test
+    void readThenWriteJpaTransactionsInOneRequestRouteSeparately() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(routing);
+        factoryBean.setPackagesToScan(getClass().getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        // Spring Boot 기본값과 같은 커넥션 처리 방식
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_HOLD"));
+        factoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        try {
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+            TransactionTemplate jpaWriteTx = new TransactionTemplate(transactionManager);
+            TransactionTemplate jpaReadOnlyTx = new TransactionTemplate(transactionManager);
+            jpaReadOnlyTx.setReadOnly(true);
+
+            ReplicaReadGuard.bindClient("nurse-station-1");
+            assertThat(jpaReadOnlyTx.execute(status -> currentNode(entityManagerFactory))).isEqualTo("replica");
+            assertThat(jpaWriteTx.execute(status -> currentNode(entityManagerFactory))).isEqualTo("primary");
+            assertThat(jpaReadOnlyTx.execute(status -> currentNode(entityManagerFactory))).isEqualTo("primary");
+        } finally {
+            entityManagerFactory.close();
+        }
+    }
+
+    private static String currentNode(EntityManagerFactory entityManagerFactory) {
+        return (String) EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                .createNativeQuery("SELECT name FROM node")
+                .getSingleResult();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.smartpole.repository;
+
+import com.example.smartpole.entity.Patient;
+import com.example.smartpole.entity.Pole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 폴대 목록 조회가 폴대 수와 무관하게 SQL 1회로 환자 정보까지 가져오는지 확인 (N+1 방지)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PoleRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PoleRepository poleRepository;
+
+    @Test
+    void poleListingFetchesPatientsInOneStatement() {
+        assertThat(statementsForListing(5)).isEqualTo(1);
+        assertThat(statementsForListing(50)).isEqualTo(1);
+    }
+
+    /**
+     * 환자가 할당된 폴대 count개를 추가한 뒤, 전체 목록 조회 + 환자 정보 접근까지의 SQL 수
+     */
+    private long statementsForListing(int count) {
+        long existing = poleRepository.count();
+        for (int i = 0; i < count; i++) {
+            Patient patient = new Patient();
+            patient.setName("patient-" + existing + "-" + i);
+            patient.setBirthDate(LocalDate.of(1980, 1, 1));
+            patient.setGender(Patient.Gender.female);
+            entityManager.persist(patient);
+
+            Pole pole = new Pole();
+            pole.setPoleId("POLE-" + (existing + i));
+            pole.setPatientId(patient.getPatientId());
+            entityManager.persist(pole);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Pole> poles = poleRepository.findAllWithPatient();
+        for (Pole pole : poles) {
+            assertThat(pole.getPatient().getName()).startsWith("patient-");
+        }
+
+        assertThat(poles).hasSize((int) existing + count);
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.smartpole.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrescriptionDueQueueTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Test
+    void pollsOnlyPrescriptionsPastTheirDueTimeInOrder() {
+        PrescriptionDueQueue queue = new PrescriptionDueQueue();
+        queue.offer(2, T0.plusMinutes(10));
+        queue.offer(1, T0.plusMinutes(5));
+        queue.offer(3, T0.plusMinutes(30));
+
+        assertThat(queue.pollDue(T0.plusMinutes(4))).isEmpty();
+        assertThat(queue.pollDue(T0.plusMinutes(10)))
+                .extracting(PrescriptionDueQueue.Due::prescriptionId).containsExactly(1, 2);
+        assertThat(queue.nextDueAt()).isEqualTo(T0.plusMinutes(30));
+    }
+
+    @Test
+    void rescheduledPrescriptionFiresAtItsNewDueTimeOnly() {
+        PrescriptionDueQueue queue = new PrescriptionDueQueue();
+        queue.offer(1, T0.plusMinutes(5));
+        // 일시정지 후 재개 → 예정 시각이 뒤로 밀림
+        queue.offer(1, T0.plusMinutes(20));
+
+        assertThat(queue.nextDueAt()).isEqualTo(T0.plusMinutes(20));
+        assertThat(queue.pollDue(T0.plusMinutes(10))).isEmpty();
+        assertThat(queue.pollDue(T0.plusMinutes(20))).hasSize(1);
+    }
+
+    @Test
+    void cancelledPrescriptionNeverFires() {
+        PrescriptionDueQueue queue = new PrescriptionDueQueue();
+        queue.offer(1, T0.plusMinutes(5));
+        queue.cancel(1);
+
+        assertThat(queue.nextDueAt()).isNull();
+        assertThat(queue.pollDue(T0.plusHours(1))).isEmpty();
+    }
+
+    @Test
+    void firedDueTimeIsNotQueuedAgain() {
+        PrescriptionDueQueue queue = new PrescriptionDueQueue();
+        queue.offer(1, T0.plusMinutes(5));
+        assertThat(queue.pollDue(T0.plusMinutes(5))).hasSize(1);
+
+        // DB 재조회로 같은 예정 시각이 다시 들어와도 무시
+        assertThat(queue.offer(1, T0.plusMinutes(5))).isFalse();
+        assertThat(queue.pollDue(T0.plusMinutes(6))).isEmpty();
+    }
+
+    @Test
+    void offerReportsWhenTheEarliestDueTimeMovesForward() {
+        PrescriptionDueQueue queue = new PrescriptionDueQueue();
+        assertThat(queue.offer(1, T0.plusMinutes(10))).isTrue();
+        assertThat(queue.offer(2, T0.plusMinutes(20))).isFalse();
+        assertThat(queue.offer(3, T0.plusMinutes(1))).isTrue();
+    }
+
+    @Test
+    void clearedFiredRecordLetsOverduePrescriptionFireAgain() {
+        PrescriptionDueQueue queue = new PrescriptionDueQueue();
+        queue.offer(1, T0);
+        queue.pollDue(T0.plusMinutes(1));
+        assertThat(queue.offer(1, T0)).isFalse();
+
+        // 리더 인수 시 이미 지난 처방을 다시 넣음
+        queue.clearFired();
+        assertThat(queue.offer(1, T0)).isTrue();
+        assertThat(queue.pollDue(T0.plusMinutes(1)))
+                .extracting(PrescriptionDueQueue.Due::prescriptionId).containsExactly(1);
+    }
+}
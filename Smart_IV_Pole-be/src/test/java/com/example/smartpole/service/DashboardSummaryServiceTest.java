@@ -0,0 +1,98 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.dto.dashboard.DashboardSummaryDTO;
+import com.example.smartpole.entity.AlertLog;
+import com.example.smartpole.entity.InfusionSession;
+import com.example.smartpole.entity.Pole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대시보드 요약이 데이터 양과 무관하게 SQL 2회로 계산되는지 확인 (Hibernate 통계로 요청당 쿼리 수 측정)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(DashboardSummaryService.class)
+class DashboardSummaryServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DashboardSummaryService dashboardSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        // 세션의 환자/약품/처방 FK는 이 테스트와 무관
+        entityManager.getEntityManager().createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+    }
+
+    @Test
+    void summaryUsesTwoStatementsRegardlessOfRowCount() {
+        for (int i = 0; i < 50; i++) {
+            persistSession(i % 10 == 0 ? 30 : i % 5 == 0 ? 200 : 800, InfusionSession.SessionStatus.ACTIVE); // critical 5, warning 5
+            persistSession(0, InfusionSession.SessionStatus.ENDED);
+            persistAlert(i % 2 == 0 ? AlertLog.Severity.warning : AlertLog.Severity.info, false);
+            persistAlert(AlertLog.Severity.critical, true);
+        }
+        persistPole("POLE-1", Pole.PoleStatus.active);
+        persistPole("POLE-2", Pole.PoleStatus.maintenance);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        DashboardSummaryDTO summary = dashboardSummaryService.getDashboardSummary();
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(summary.getActiveSessionCount()).isEqualTo(50);
+        assertThat(summary.getCriticalCount()).isEqualTo(5);
+        assertThat(summary.getWarningCount()).isEqualTo(5);
+        assertThat(summary.getNormalCount()).isEqualTo(40);
+        assertThat(summary.getActivePolesCount()).isEqualTo(1);
+        assertThat(summary.getAlertCounts()).containsEntry("info", 25L).containsEntry("warning", 25L).containsEntry("critical", 0L);
+        assertThat(summary.getTotalAlertsCount()).isEqualTo(50);
+        assertThat(summary.getSystemStatus()).isEqualTo("warning");
+    }
+
+    private void persistSession(int remainingVolume, InfusionSession.SessionStatus status) {
+        InfusionSession session = new InfusionSession();
+        session.setPatientId(1);
+        session.setDripId(1);
+        session.setPrescriptionId(1);
+        session.setStartTime(LocalDateTime.now());
+        session.setFlowRate(new BigDecimal("100.00"));
+        session.setTotalVolumeMl(1000);
+        session.setRemainingVolume(remainingVolume);
+        session.setStatus(status);
+        entityManager.persist(session);
+    }
+
+    private void persistAlert(AlertLog.Severity severity, boolean acknowledged) {
+        AlertLog alert = new AlertLog();
+        alert.setAlertType(AlertLog.AlertType.low_volume);
+        alert.setSeverity(severity);
+        alert.setMessage("test");
+        alert.setAcknowledged(acknowledged);
+        entityManager.persist(alert);
+    }
+
+    private void persistPole(String poleId, Pole.PoleStatus status) {
+        Pole pole = new Pole();
+        pole.setPoleId(poleId);
+        pole.setStatus(status);
+        entityManager.persist(pole);
+    }
+}
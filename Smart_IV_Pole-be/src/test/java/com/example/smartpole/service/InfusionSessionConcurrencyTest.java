@@ -0,0 +1,187 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.entity.InfusionSession;
+import com.example.smartpole.repository.InfusionSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ESP 잔량 갱신과 간호사 조작(일시정지/재개/종료)이 동시에 일어나도 서로의 변경을 덮어쓰지 않는지,
+ * 동시에 들어온 샘플이 같은 잔량 구간을 넘어도 알림이 한 번만 생성되는지 확인
+ * (스레드마다 별도 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션 없이 실행)
+ */
+@DataJpaTest
+@Import(InfusionSessionService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InfusionSessionConcurrencyTest {
+
+    private static final int NURSE_CYCLES = 50;
+
+    @MockitoBean
+    private AlertLogService alertLogService;
+
+    @MockitoBean
+    private PoleService poleService;
+
+    @Autowired
+    private InfusionSessionService infusionSessionService;
+
+    @Autowired
+    private InfusionSessionRepository infusionSessionRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        // 세션의 환자/약품/처방 FK는 이 테스트와 무관
+        new JdbcTemplate(dataSource).execute("SET REFERENTIAL_INTEGRITY FALSE");
+    }
+
+    @AfterEach
+    void tearDown() {
+        infusionSessionRepository.deleteAll();
+    }
+
+    @Test
+    void ingestAndNurseActionsDoNotLoseUpdates() throws Exception {
+        Integer sessionId = infusionSessionRepository.save(newSession()).getSessionId();
+        InfusionSession sampled = infusionSessionRepository.findById(sessionId).orElseThrow();
+        AtomicInteger lastAppliedVolume = new AtomicInteger(1000);
+        AtomicBoolean nurseDone = new AtomicBoolean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> ingest = executor.submit(() -> {
+                for (int volume = 999; volume > 0 && !nurseDone.get(); volume--) {
+                    if (infusionSessionService.updateRemainingVolume(sampled, volume, null).isPresent()) {
+                        lastAppliedVolume.set(volume);
+                    }
+                }
+            });
+            Future<?> nurse = executor.submit(() -> {
+                for (int i = 0; i < NURSE_CYCLES; i++) {
+                    infusionSessionService.pauseInfusion(sessionId);
+                    infusionSessionService.resumeInfusion(sessionId);
+                }
+                infusionSessionService.endInfusion(sessionId);
+                nurseDone.set(true);
+            });
+            nurse.get(60, TimeUnit.SECONDS);
+            ingest.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        InfusionSession session = infusionSessionRepository.findById(sessionId).orElseThrow();
+        // 종료가 잔량 갱신에 덮어써지지 않음
+        assertThat(session.getStatus()).isEqualTo(InfusionSession.SessionStatus.ENDED);
+        assertThat(session.getEndTime()).isNotNull();
+        // 마지막으로 반영된 잔량이 간호사 저장에 덮어써지지 않음
+        assertThat(session.getRemainingVolume()).isEqualTo(lastAppliedVolume.get());
+        // 간호사 조작마다 버전 1 증가 (잔량 갱신은 버전을 올리지 않음)
+        assertThat(session.getVersion()).isEqualTo(2L * NURSE_CYCLES + 1);
+    }
+
+    @Test
+    void ingestAfterEndIsIgnored() {
+        InfusionSession sampled = infusionSessionRepository.save(newSession());
+        Integer sessionId = sampled.getSessionId();
+        infusionSessionService.endInfusion(sessionId);
+
+        assertThat(infusionSessionService.updateRemainingVolume(sampled, 10, LocalDateTime.now())).isEmpty();
+
+        InfusionSession session = infusionSessionRepository.findById(sessionId).orElseThrow();
+        assertThat(session.getStatus()).isEqualTo(InfusionSession.SessionStatus.ENDED);
+        assertThat(session.getRemainingVolume()).isEqualTo(1000);
+    }
+
+    @Test
+    void concurrentSamplesCrossingABandCreateOneAlert() throws Exception {
+        Integer sessionId = infusionSessionRepository.save(newSession()).getSessionId();
+        int samples = 8;
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(samples);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < samples; i++) {
+                // 각 샘플은 ESP 컨트롤러처럼 미리 조회한 자기 세션 사본으로 갱신
+                InfusionSession sampled = infusionSessionRepository.findById(sessionId).orElseThrow();
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return infusionSessionService.updateRemainingVolume(sampled, 40, null);
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 정상(100%) → 위험(4%) 구간으로 넘어간 샘플 하나만 알림 생성
+        verify(alertLogService, times(1)).createAlert(eq(sessionId), eq("low_volume"), eq("critical"), anyString());
+        verify(alertLogService, never()).createAlert(eq(sessionId), eq("low_volume"), eq("warning"), anyString());
+        assertThat(infusionSessionRepository.findById(sessionId).orElseThrow().getVolumeBand())
+                .isEqualTo(InfusionSession.VOLUME_BAND_CRITICAL);
+    }
+
+    @Test
+    void staleNurseWriteIsRejected() {
+        Integer sessionId = infusionSessionRepository.save(newSession()).getSessionId();
+        InfusionSession stale = infusionSessionRepository.findById(sessionId).orElseThrow();
+
+        infusionSessionService.pauseInfusion(sessionId);
+
+        stale.setStatus(InfusionSession.SessionStatus.ENDED);
+        assertThatThrownBy(() -> infusionSessionRepository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(infusionSessionRepository.findById(sessionId).orElseThrow().getStatus())
+                .isEqualTo(InfusionSession.SessionStatus.PAUSED);
+    }
+
+    private InfusionSession newSession() {
+        InfusionSession session = new InfusionSession();
+        session.setPatientId(1);
+        session.setDripId(1);
+        session.setPrescriptionId(1);
+        session.setStartTime(LocalDateTime.now());
+        session.setFlowRate(new BigDecimal("100.00"));
+        session.setTotalVolumeMl(1000);
+        session.setRemainingVolume(1000);
+        session.setStatus(InfusionSession.SessionStatus.ACTIVE);
+        return session;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.smartpole.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTest {
+
+    private static final long START = TimeUnit.HOURS.toNanos(1);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRefillsAtConfiguredRate() {
+        LoginRateLimiter limiter = new LoginRateLimiter(5, 10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("01012345678", START)).isTrue();
+        }
+        assertThat(limiter.tryAcquire("01012345678", START)).isFalse();
+
+        // 분당 10회 → 6초마다 한 번
+        assertThat(limiter.tryAcquire("01012345678", START + 5 * SECOND)).isFalse();
+        assertThat(limiter.tryAcquire("01012345678", START + 6 * SECOND)).isTrue();
+        assertThat(limiter.tryAcquire("01012345678", START + 6 * SECOND)).isFalse();
+    }
+
+    @Test
+    void limitsEachPhoneSeparately() {
+        LoginRateLimiter limiter = new LoginRateLimiter(1, 10);
+
+        assertThat(limiter.tryAcquire("01011112222", START)).isTrue();
+        assertThat(limiter.tryAcquire("01011112222", START)).isFalse();
+        assertThat(limiter.tryAcquire("01033334444", START)).isTrue();
+    }
+
+    @Test
+    void evictsOnlyFullBuckets() {
+        LoginRateLimiter limiter = new LoginRateLimiter(5, 10);
+        limiter.tryAcquire("01011112222", START);
+        limiter.tryAcquire("01033334444", START + 3 * SECOND);
+
+        limiter.evictFullBuckets(START + 6 * SECOND);
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.entity.Patient;
+import com.example.smartpole.repository.NurseRepository;
+import com.example.smartpole.repository.PatientRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NameSearchIndexTest {
+
+    private final PatientRepository patientRepository = mock(PatientRepository.class);
+    private final NurseRepository nurseRepository = mock(NurseRepository.class);
+    private final NameSearchIndex index = new NameSearchIndex(patientRepository, nurseRepository);
+
+    @Test
+    void keepsPatientSavedWhileRebuildIsLoading() {
+        when(nurseRepository.findAll()).thenReturn(List.of());
+        // DB 조회 결과에는 아직 없는 환자가 조회 도중 저장됨
+        when(patientRepository.findAllSummaries()).thenAnswer(invocation -> {
+            index.indexPatient(patient(7, "김민수"));
+            return List.of();
+        });
+
+        index.rebuild();
+
+        assertThat(index.searchPatients("민수")).contains(List.of(7));
+    }
+
+    @Test
+    void appliesChangesAfterRebuildToCurrentIndex() {
+        when(nurseRepository.findAll()).thenReturn(List.of());
+        when(patientRepository.findAllSummaries()).thenReturn(List.of());
+        index.rebuild();
+
+        index.indexPatient(patient(7, "김민수"));
+        assertThat(index.searchPatients("민수")).contains(List.of(7));
+
+        index.removePatient(7);
+        assertThat(index.searchPatients("민수")).contains(List.of());
+    }
+
+    private static Patient patient(Integer patientId, String name) {
+        Patient patient = new Patient();
+        patient.setPatientId(patientId);
+        patient.setName(name);
+        return patient;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.smartpole.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    @Test
+    void findsHangulSubstringsOfAnyLength() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, "김민수", "010-1234-5678");
+        index.put(2, "박민수", "010-9876-5432");
+        index.put(3, "김민서윤", null);
+
+        assertThat(index.search("민")).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(index.search("김민")).containsExactly(1, 3);
+        assertThat(index.search("민서윤")).containsExactly(3);
+        assertThat(index.search("김민서윤")).containsExactly(3);
+        assertThat(index.search("김민수윤")).isEmpty();
+    }
+
+    @Test
+    void ranksExactThenPrefixThenSubstring() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, "이수진");
+        index.put(2, "수진");
+        index.put(3, "수진아");
+
+        assertThat(index.search("수진")).containsExactly(2, 3, 1);
+    }
+
+    @Test
+    void ignoresPhoneSeparatorsAndMatchesChoseong() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, "김민수", "010-1234-5678");
+        index.put(2, "박민수", "010-9876-5432");
+
+        assertThat(index.search("1234-56")).containsExactly(1);
+        assertThat(index.search("01098765432")).containsExactly(2);
+        assertThat(index.search("ㄱㅁㅅ")).containsExactly(1);
+        assertThat(index.search("ㅁㅅ")).containsExactly(1, 2);
+    }
+
+    @Test
+    void replacesAndRemovesEntries() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, "김민수");
+        index.put(1, "최지우");
+
+        assertThat(index.search("김민")).isEmpty();
+        assertThat(index.search("지우")).containsExactly(1);
+
+        index.remove(1);
+        assertThat(index.search("지우")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.smartpole.service;
+
+import com.example.smartpole.entity.AlertLog;
+import com.example.smartpole.entity.InfusionLog;
+import com.example.smartpole.entity.InfusionSession;
+import com.example.smartpole.entity.Patient;
+import com.example.smartpole.entity.Prescription;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 환자 삭제가 이력(처방/세션/알림/투여 로그) 길이와 무관하게 같은 수의 SQL로 끝나는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PatientService.class, NameSearchIndex.class})
+class PatientDeletionTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PatientService patientService;
+
+    @BeforeEach
+    void setUp() {
+        // 세션/로그의 약품 FK는 이 테스트와 무관
+        entityManager.getEntityManager().createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+    }
+
+    @Test
+    void deleteStatementCountDoesNotGrowWithHistory() {
+        long shortHistory = statementsForDeletion(2);
+        long longHistory = statementsForDeletion(100);
+
+        assertThat(longHistory).isEqualTo(shortHistory);
+        assertThat(longHistory).isLessThanOrEqualTo(10);
+        assertThat(count("Prescription")).isZero();
+        assertThat(count("InfusionSession")).isZero();
+        assertThat(count("AlertLog")).isZero();
+        assertThat(count("InfusionLog")).isZero();
+        assertThat(count("Patient")).isZero();
+    }
+
+    /**
+     * 처방/세션/알림/로그를 history건씩 가진 환자를 삭제할 때의 SQL 수
+     */
+    private long statementsForDeletion(int history) {
+        Patient patient = new Patient();
+        patient.setName("patient-" + history);
+        patient.setBirthDate(LocalDate.of(1980, 1, 1));
+        patient.setGender(Patient.Gender.male);
+        entityManager.persist(patient);
+
+        for (int i = 0; i < history; i++) {
+            Prescription prescription = new Prescription();
+            prescription.setPatientId(patient.getPatientId());
+            prescription.setDrugTypeId(1);
+            prescription.setTotalVolumeMl(1000);
+            prescription.setInfusionRateMlHr(100);
+            prescription.setGttFactor(20);
+            prescription.setCalculatedGtt(33);
+            prescription.setDurationHours(10.0);
+            prescription.setPrescribedBy("N001");
+            prescription.setStatus(Prescription.PrescriptionStatus.COMPLETED);
+            entityManager.persist(prescription);
+
+            InfusionSession session = new InfusionSession();
+            session.setPatientId(patient.getPatientId());
+            session.setDripId(1);
+            session.setPrescriptionId(prescription.getId());
+            session.setStartTime(LocalDateTime.now());
+            session.setFlowRate(new BigDecimal("100.00"));
+            session.setTotalVolumeMl(1000);
+            session.setRemainingVolume(0);
+            session.setStatus(InfusionSession.SessionStatus.ENDED);
+            entityManager.persist(session);
+
+            AlertLog alert = new AlertLog();
+            alert.setSessionId(session.getSessionId());
+            alert.setAlertType(AlertLog.AlertType.low_volume);
+            alert.setSeverity(AlertLog.Severity.warning);
+            alert.setMessage("test");
+            entityManager.persist(alert);
+
+            InfusionLog log = new InfusionLog();
+            log.setSessionId(session.getSessionId());
+            log.setPatientId(patient.getPatientId());
+            log.setDripId(1);
+            entityManager.persist(log);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        patientService.deletePatient(patient.getPatientId());
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long count(String entityName) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(e) FROM " + entityName + " e", Long.class)
+                .getSingleResult();
+    }
+}
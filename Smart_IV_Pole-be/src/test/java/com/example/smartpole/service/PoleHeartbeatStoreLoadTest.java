@@ -0,0 +1,89 @@
+package com.example.smartpole.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10,000개 폴대가 30초마다 핑을 보낼 때 DB 쓰기 횟수 시뮬레이션
+ * - 배터리는 5분마다 1%씩 감소, 기본 설정(임계값 5%, 체크포인트 30분)
+ * - 기동 직후 온라인 전환 쓰기가 끝난 뒤(워밍업 1시간 이후) 2시간 구간을 측정
+ */
+class PoleHeartbeatStoreLoadTest {
+
+    private static final int POLE_COUNT = 10_000;
+    private static final int PING_INTERVAL_SECONDS = 30;
+    private static final int WARMUP_SECONDS = 3_600;
+    private static final int MEASURED_SECONDS = 7_200;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void tenThousandPolesCauseOnlyAHandfulOfWritesPerSecond() {
+        PoleHeartbeatStore store = new PoleHeartbeatStore(5, 30);
+        String[] poleIds = new String[POLE_COUNT];
+        for (int i = 0; i < POLE_COUNT; i++) {
+            poleIds[i] = String.format("POLE-%05d", i);
+        }
+
+        long pings = 0;
+        long writes = 0;
+        int peakWritesPerSecond = 0;
+
+        for (int second = 0; second < WARMUP_SECONDS + MEASURED_SECONDS; second++) {
+            long nowMillis = START + second * 1000L;
+            int writesThisSecond = 0;
+
+            // 폴대마다 핑 시점을 30초 주기 안에서 분산
+            for (int pole = second % PING_INTERVAL_SECONDS; pole < POLE_COUNT; pole += PING_INTERVAL_SECONDS) {
+                int batteryLevel = 100 - (pole % 40) - (second + pole * 7) / 300;
+                if (store.recordPing(poleIds[pole], batteryLevel, nowMillis)) {
+                    writesThisSecond++;
+                }
+            }
+
+            if (second >= WARMUP_SECONDS) {
+                pings += POLE_COUNT / PING_INTERVAL_SECONDS;
+                writes += writesThisSecond;
+                peakWritesPerSecond = Math.max(peakWritesPerSecond, writesThisSecond);
+            }
+        }
+
+        double pingsPerSecond = (double) pings / MEASURED_SECONDS;
+        double writesPerSecond = (double) writes / MEASURED_SECONDS;
+
+        assertThat(store.size()).isEqualTo(POLE_COUNT);
+        assertThat(pingsPerSecond).isGreaterThan(330);
+        assertThat(writesPerSecond).isLessThan(10);
+        assertThat(peakWritesPerSecond).isLessThan(40);
+    }
+
+    @Test
+    void writesOnTransitionsBatteryChangeAndCheckpoint() {
+        PoleHeartbeatStore store = new PoleHeartbeatStore(5, 30);
+
+        assertThat(store.recordPing("POLE-1", 80, START)).isTrue();            // 첫 핑 = 온라인 전환
+        assertThat(store.recordPing("POLE-1", 78, START + 30_000)).isFalse();  // 변화 2% < 임계값
+        assertThat(store.recordPing("POLE-1", 75, START + 60_000)).isTrue();   // 변화 5%
+        assertThat(store.recordPing("POLE-1", 75, START + 90_000)).isFalse();
+
+        store.markOffline(java.util.List.of("POLE-1"));
+        assertThat(store.recordPing("POLE-1", 75, START + 120_000)).isTrue();  // 오프라인 → 온라인
+
+        assertThat(store.recordPing("POLE-1", 75, START + 120_000 + 31 * 60_000)).isTrue(); // 체크포인트
+        assertThat(store.getBatteryLevel("POLE-1")).isEqualTo(75);
+    }
+
+    @Test
+    void deletedPoleSlotIsReusedWithoutOldState() {
+        PoleHeartbeatStore store = new PoleHeartbeatStore(5, 30);
+        store.recordPing("POLE-1", 80, START);
+
+        store.remove("POLE-1");
+        assertThat(store.size()).isZero();
+        assertThat(store.getLastPingAt("POLE-1")).isNull();
+
+        assertThat(store.recordPing("POLE-2", null, START + 1_000)).isTrue();
+        assertThat(store.getBatteryLevel("POLE-2")).isNull();
+        assertThat(store.size()).isEqualTo(1);
+    }
+}
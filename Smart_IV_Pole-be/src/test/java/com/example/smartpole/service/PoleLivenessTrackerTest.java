@@ -0,0 +1,58 @@
+package com.example.smartpole.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoleLivenessTrackerTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void expiresPoleExactlyAfterTimeout() {
+        PoleLivenessTracker tracker = new PoleLivenessTracker(60, START);
+        tracker.arm("POLE-1", START);
+
+        assertThat(tracker.advance(START + 59_000)).isEmpty();
+        assertThat(tracker.advance(START + 60_000)).containsExactly("POLE-1");
+        assertThat(tracker.isTracked("POLE-1")).isFalse();
+    }
+
+    @Test
+    void rearmPostponesDeadline() {
+        PoleLivenessTracker tracker = new PoleLivenessTracker(60, START);
+        tracker.arm("POLE-1", START);
+        tracker.arm("POLE-1", START + 30_000);
+
+        assertThat(tracker.advance(START + 60_000)).isEmpty();
+        assertThat(tracker.advance(START + 90_000)).containsExactly("POLE-1");
+    }
+
+    @Test
+    void keepsDeadlinesBeyondOneWheelRevolution() {
+        PoleLivenessTracker tracker = new PoleLivenessTracker(300, START);
+        tracker.arm("POLE-1", START);
+
+        assertThat(tracker.advance(START + 200_000)).isEmpty();
+        assertThat(tracker.advance(START + 300_000)).containsExactly("POLE-1");
+    }
+
+    @Test
+    void catchesUpAfterLongPause() {
+        PoleLivenessTracker tracker = new PoleLivenessTracker(60, START);
+        tracker.arm("POLE-1", START);
+        tracker.arm("POLE-2", START + 10_000);
+
+        assertThat(tracker.advance(START + 3_600_000)).containsExactlyInAnyOrder("POLE-1", "POLE-2");
+        assertThat(tracker.trackedCount()).isZero();
+    }
+
+    @Test
+    void disarmedPoleNeverExpires() {
+        PoleLivenessTracker tracker = new PoleLivenessTracker(60, START);
+        tracker.arm("POLE-1", START);
+        tracker.disarm("POLE-1");
+
+        assertThat(tracker.advance(START + 120_000)).isEmpty();
+    }
+}